@@ -13,7 +13,14 @@ public abstract class BaseSchedule implements ISchedule {
 
 
     protected BaseSchedule(String todo, String fromRepeatId) {
-        this.id = UUID.randomUUID().toString();
+        this(UUID.randomUUID().toString(), todo, fromRepeatId);
+    }
+
+    /**
+     * 저장된 ID로 복원할 때 사용
+     */
+    protected BaseSchedule(String id, String todo, String fromRepeatId) {
+        this.id = (id == null || id.isEmpty()) ? UUID.randomUUID().toString() : id;
         this.todo = todo;
         this.fromRepeatId = fromRepeatId;
     }
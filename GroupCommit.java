@@ -0,0 +1,342 @@
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 파일 저장 묶음 커밋 (Single Responsibility Principle)
+ *
+ * 전체 교체 저장은 같은 폴더의 임시 파일에 쓴 뒤 fsync → 원자적 rename 으로 반영하므로
+ * 저장 도중 중단되어도 대상 파일은 이전 내용이나 새 내용 중 하나로 남는다.
+ * 변경 기록 추가와 파일 삭제도 같은 순서로 처리한다.
+ *
+ * 짧은 시간(window) 안에 들어온 요청들은 전용 스레드에서 한 번에 처리되어
+ * fsync를 묶어서 수행한다 (예: 프로젝트 추가 직후의 일정 저장).
+ * 호출한 스레드는 내용만 기록하고 바로 돌아가며, awaitDurable() 또는 요청마다 돌려받은
+ * CompletableFuture(await())로 반영 결과를 기다릴 수 있다.
+ *
+ * 한 묶음의 처리 순서:
+ *   1. 임시 파일 fsync  2. 요청 순서대로 rename  3. 폴더 fsync
+ *   4. 요청 순서대로 추가 기록/삭제  5. 추가한 파일과 폴더 fsync
+ * 같은 묶음의 교체가 하나라도 실패하면 그 묶음의 삭제는 수행하지 않는다.
+ * 이 보호는 한 묶음 안에서만 적용되므로, 교체가 반영된 뒤에만 지워야 하는 파일(변경 기록)은
+ * 교체 요청의 결과를 await()로 확인한 다음에 삭제를 요청해야 한다.
+ * TextWriter.commit()은 교체가 반영될 때까지 기다리고 실패하면 IOException을 던진다.
+ */
+public final class GroupCommit {
+
+    private static final GroupCommit DEFAULT = new GroupCommit(10);
+
+    static {
+        // 종료 시 남은 요청을 모두 반영
+        Runtime.getRuntime().addShutdownHook(new Thread(DEFAULT::awaitDurable, "group-commit-shutdown"));
+    }
+
+    private enum Kind { REPLACE, APPEND, DELETE }
+
+    private static final class Op {
+        final Kind kind;
+        final Path file;
+        final Path temp;
+        final byte[] data;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Op(Kind kind, Path file, Path temp, byte[] data) {
+            this.kind = kind;
+            this.file = file;
+            this.temp = temp;
+            this.data = data;
+        }
+    }
+
+    private final long windowMillis;
+    private final Object lock = new Object();
+    private List<Op> queue = new ArrayList<>();
+    private long submitted;
+    private long completed;
+    private Thread worker;
+
+    public GroupCommit(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 모든 매니저가 함께 쓰는 기본 인스턴스 (서로 다른 매니저의 저장도 한 묶음으로 처리)
+     */
+    public static GroupCommit getDefault() {
+        return DEFAULT;
+    }
+
+    // ===== 요청 =====
+
+    /**
+     * 대상 파일과 같은 폴더에 임시 파일 생성 (rename이 원자적이도록)
+     * createTempFile()과 달리 일반 파일과 같은 기본 권한으로 만듦
+     */
+    public Path createTemp(Path target) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        while (true) {
+            Path temp = absolute.resolveSibling(absolute.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE) + ".tmp");
+            try {
+                return Files.createFile(temp);
+            } catch (FileAlreadyExistsException e) {
+                // 이름이 겹치면 다시 시도
+            }
+        }
+    }
+
+    /**
+     * 텍스트 파일 교체용 Writer (FileWriter와 같은 문자셋)
+     * commit()을 호출해야 교체되며, commit() 없이 close()하면 임시 파일은 버려짐
+     */
+    public TextWriter newTextWriter(String file) throws IOException {
+        Path target = Path.of(file);
+        return new TextWriter(this, createTemp(target), target);
+    }
+
+    /**
+     * 다 쓴 임시 파일로 대상 파일 교체
+     */
+    public CompletableFuture<Void> replace(Path temp, Path target) {
+        return submit(new Op(Kind.REPLACE, target.toAbsolutePath(), temp, null));
+    }
+
+    /**
+     * 파일 끝에 내용 추가
+     */
+    public CompletableFuture<Void> append(Path file, byte[] data) {
+        return submit(new Op(Kind.APPEND, file.toAbsolutePath(), null, data));
+    }
+
+    /**
+     * 파일 삭제 (앞서 요청한 교체가 반영된 뒤에 수행)
+     */
+    public CompletableFuture<Void> delete(Path file) {
+        return submit(new Op(Kind.DELETE, file.toAbsolutePath(), null, null));
+    }
+
+    /**
+     * 요청 하나가 반영될 때까지 대기
+     * @throws IOException 교체/추가/삭제가 실패한 경우 (원인 예외)
+     */
+    public static void await(CompletableFuture<Void> request) throws IOException {
+        try {
+            request.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 지금까지 요청한 저장이 모두 디스크에 반영될 때까지 대기
+     */
+    public void awaitDurable() {
+        synchronized (lock) {
+            long target = submitted;
+            while (completed < target) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<Void> submit(Op op) {
+        synchronized (lock) {
+            queue.add(op);
+            submitted++;
+            if (worker == null) {
+                worker = new Thread(this::run, "group-commit");
+                worker.setDaemon(true);
+                worker.start();
+            }
+            lock.notifyAll();
+        }
+        return op.done;
+    }
+
+    /**
+     * 임시 파일에 쓰고 commit() 시 대상 파일을 교체하는 BufferedWriter
+     */
+    public static final class TextWriter extends BufferedWriter {
+        private final GroupCommit commits;
+        private final Path temp;
+        private final Path target;
+        private boolean closed;
+
+        private TextWriter(GroupCommit commits, Path temp, Path target) throws IOException {
+            super(new FileWriter(temp.toFile()));
+            this.commits = commits;
+            this.temp = temp;
+            this.target = target;
+        }
+
+        /**
+         * 대상 파일 교체를 요청하고 반영될 때까지 대기
+         * @return 기록한 바이트 수
+         * @throws IOException 교체가 실패한 경우 (대상 파일은 이전 내용 그대로)
+         */
+        public long commit() throws IOException {
+            super.close();
+            closed = true;
+            long size = Files.size(temp);
+            await(commits.replace(temp, target));
+            return size;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    // ===== 처리 스레드 =====
+
+    private void run() {
+        while (true) {
+            List<Op> batch;
+            try {
+                synchronized (lock) {
+                    while (queue.isEmpty()) lock.wait();
+                }
+                Thread.sleep(windowMillis); // 뒤따르는 요청을 모아 한 번에 처리
+            } catch (InterruptedException e) {
+                return;
+            }
+            synchronized (lock) {
+                batch = queue;
+                queue = new ArrayList<>();
+            }
+
+            runBatch(batch);
+
+            synchronized (lock) {
+                completed += batch.size();
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void runBatch(List<Op> batch) {
+        boolean replaceFailed = false;
+
+        // 1. 임시 파일 fsync
+        for (Op op : batch) {
+            if (op.kind != Kind.REPLACE) continue;
+            try {
+                force(op.temp);
+            } catch (IOException e) {
+                replaceFailed = true;
+                fail(op, e);
+            }
+        }
+
+        // 2. rename (요청 순서대로) 3. 폴더 fsync
+        Set<Path> dirs = new LinkedHashSet<>();
+        for (Op op : batch) {
+            if (op.kind != Kind.REPLACE || op.done.isDone()) continue;
+            try {
+                Files.move(op.temp, op.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                dirs.add(op.file.getParent());
+            } catch (IOException e) {
+                replaceFailed = true;
+                fail(op, e);
+            }
+        }
+        syncDirectories(dirs);
+
+        // 4. 추가 기록 / 삭제 (요청 순서대로)
+        Set<Path> appended = new LinkedHashSet<>();
+        dirs.clear();
+        for (Op op : batch) {
+            try {
+                if (op.kind == Kind.APPEND) {
+                    try (FileOutputStream out = new FileOutputStream(op.file.toFile(), true)) {
+                        out.write(op.data);
+                    }
+                    if (appended.add(op.file)) dirs.add(op.file.getParent());
+                } else if (op.kind == Kind.DELETE) {
+                    if (replaceFailed) {
+                        fail(op, new IOException("같은 묶음의 파일 교체가 실패하여 삭제하지 않았습니다: " + op.file));
+                        continue;
+                    }
+                    Files.deleteIfExists(op.file);
+                    appended.remove(op.file);
+                    dirs.add(op.file.getParent());
+                }
+            } catch (IOException e) {
+                fail(op, e);
+            }
+        }
+
+        // 5. 추가한 파일과 폴더 fsync
+        for (Path file : appended) {
+            try {
+                force(file);
+            } catch (IOException e) {
+                for (Op op : batch) {
+                    if (op.kind == Kind.APPEND && op.file.equals(file)) fail(op, e);
+                }
+            }
+        }
+        syncDirectories(dirs);
+
+        for (Op op : batch) op.done.complete(null);
+    }
+
+    private void fail(Op op, IOException e) {
+        System.err.println("파일 저장 오류 (" + op.file.getFileName() + "): " + e.getMessage());
+        if (op.temp != null) {
+            try {
+                Files.deleteIfExists(op.temp);
+            } catch (IOException ignored) {
+                // 임시 파일은 다음 저장에 영향을 주지 않음
+            }
+        }
+        op.done.completeExceptionally(e);
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * rename/삭제된 항목이 폴더에 반영되도록 폴더 fsync (지원하지 않는 OS에서는 생략)
+     */
+    private static void syncDirectories(Set<Path> dirs) {
+        for (Path dir : dirs) {
+            try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (IOException ignored) {
+                // Windows 등 폴더를 열 수 없는 환경
+            }
+        }
+    }
+}
\ No newline at end of file
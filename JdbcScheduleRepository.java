@@ -0,0 +1,401 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 내장 DB 일정 저장소 (ScheduleRepository 구현)
+ *
+ * 서버 없이 같은 프로세스에서 동작하는 단일 파일 DB(H2, SQLite, Derby 등)를 JDBC로 사용한다.
+ * 드라이버는 클래스패스에 추가하고 -Dteamplanner.store=jdbc:... 로 선택한다.
+ *
+ * 테이블 (처음 연결할 때 생성):
+ *   schedule        : 구체적 일정, epoch day(day_key)와 반복 패턴 ID(repeat_id)에 인덱스
+ *   repeat_pattern  : 반복 패턴 (저장 순서 seq 유지)
+ *   repeat_override : 반복 일정 발생 건별 변경 (패턴 ID에 인덱스)
+ *   month_index     : 달별 일정 수/완료 수
+ *   store_info      : 마지막 저장 시각
+ *
+ * 한 달을 읽을 때는 날짜 인덱스로 그 달의 행만 읽으므로 일정이 아주 많아도 메모리에 모두 올리지 않는다.
+ * 쓰기는 commit()까지 하나의 트랜잭션으로 묶인다.
+ */
+public final class JdbcScheduleRepository implements ScheduleRepository {
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE schedule ("
+                    + "id VARCHAR(64) NOT NULL, day_key INTEGER NOT NULL, seq INTEGER NOT NULL, "
+                    + "year_value INTEGER NOT NULL, month_value INTEGER NOT NULL, day_value INTEGER NOT NULL, "
+                    + "start_hour INTEGER NOT NULL, start_minute INTEGER NOT NULL, "
+                    + "end_hour INTEGER NOT NULL, end_minute INTEGER NOT NULL, "
+                    + "todo VARCHAR(4000) NOT NULL, completed SMALLINT NOT NULL, repeat_id VARCHAR(64))",
+            "CREATE INDEX schedule_day_idx ON schedule (day_key)",
+            "CREATE INDEX schedule_repeat_idx ON schedule (repeat_id)",
+            "CREATE TABLE repeat_pattern ("
+                    + "id VARCHAR(64) NOT NULL PRIMARY KEY, seq INTEGER NOT NULL, title VARCHAR(4000) NOT NULL, "
+                    + "rule_text VARCHAR(1000) NOT NULL, base_day INTEGER NOT NULL, "
+                    + "start_nanos BIGINT NOT NULL, end_nanos BIGINT NOT NULL)",
+            "CREATE TABLE repeat_override ("
+                    + "repeat_id VARCHAR(64) NOT NULL, day_key INTEGER NOT NULL, "
+                    + "completed SMALLINT NOT NULL, skipped SMALLINT NOT NULL, "
+                    + "start_nanos BIGINT, end_nanos BIGINT, PRIMARY KEY (repeat_id, day_key))",
+            "CREATE TABLE month_index ("
+                    + "month_key VARCHAR(7) NOT NULL PRIMARY KEY, total INTEGER NOT NULL, completed INTEGER NOT NULL)",
+            "CREATE TABLE store_info (name VARCHAR(32) NOT NULL PRIMARY KEY, info_value BIGINT NOT NULL)"
+    };
+
+    private static final String SCHEDULE_COLUMNS = "id, year_value, month_value, day_value, start_hour, start_minute, "
+            + "end_hour, end_minute, todo, completed, repeat_id";
+
+    // 바이트 수 추정용 고정 필드 크기 (정수 필드 + 완료 여부)
+    private static final int SCHEDULE_FIXED_BYTES = 4 * 8 + 2;
+    private static final int PATTERN_FIXED_BYTES = 4 * 2 + 8 * 2;
+    private static final int OVERRIDE_FIXED_BYTES = 4 + 2 * 2 + 8 * 2;
+    private static final int MONTH_ENTRY_BYTES = 7 + 4 * 2;
+
+    private final String url;
+    private Connection connection;
+
+    public JdbcScheduleRepository(String url) {
+        this.url = url;
+    }
+
+    /**
+     * 처음 사용할 때 연결하고, 테이블이 없으면 생성
+     */
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            Connection c = DriverManager.getConnection(url);
+            try {
+                c.setAutoCommit(false);
+                createSchema(c);
+            } catch (SQLException e) {
+                c.close();
+                throw e;
+            }
+            connection = c;
+        }
+        return connection;
+    }
+
+    private static void createSchema(Connection c) throws SQLException {
+        if (tableExists(c, "month_index")) return;
+        try (Statement st = c.createStatement()) {
+            for (String sql : SCHEMA) st.executeUpdate(sql);
+        }
+        c.commit();
+        System.out.println("일정 DB 테이블을 생성했습니다.");
+    }
+
+    private static boolean tableExists(Connection c, String name) throws SQLException {
+        DatabaseMetaData meta = c.getMetaData();
+        // DB마다 이름을 대문자 또는 소문자로 보관
+        for (String candidate : new String[]{name, name.toUpperCase()}) {
+            try (ResultSet rs = meta.getTables(null, null, candidate, null)) {
+                if (rs.next()) return true;
+            }
+        }
+        return false;
+    }
+
+    private static IOException wrap(String action, SQLException e) {
+        return new IOException("일정 DB " + action + " 오류: " + e.getMessage(), e);
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        try (PreparedStatement ps = connection().prepareStatement(
+                "SELECT info_value FROM store_info WHERE name = 'saved_at'");
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        } catch (SQLException e) {
+            throw wrap("열기", e);
+        }
+    }
+
+    // ===== 읽기 =====
+
+    @Override
+    public List<MonthEntry> readIndex() throws IOException {
+        List<MonthEntry> entries = new ArrayList<>();
+        try (PreparedStatement ps = connection().prepareStatement(
+                "SELECT month_key, total, completed FROM month_index ORDER BY month_key");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                entries.add(new MonthEntry(YearMonth.parse(rs.getString(1)), rs.getInt(2), rs.getInt(3)));
+            }
+        } catch (SQLException e) {
+            throw wrap("목록 읽기", e);
+        } catch (RuntimeException e) {
+            throw new IOException("일정 DB 목록이 손상되었습니다: " + e.getMessage(), e);
+        }
+        return entries;
+    }
+
+    @Override
+    public void readPatterns(Consumer<ISchedule> sink) throws IOException {
+        try {
+            Map<String, RepeatSchedule> patterns = new HashMap<>();
+            try (PreparedStatement ps = connection().prepareStatement(
+                    "SELECT id, title, rule_text, base_day, start_nanos, end_nanos FROM repeat_pattern ORDER BY seq");
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    LocalDate baseDate = LocalDate.ofEpochDay(rs.getInt(4));
+                    RepeatSchedule pattern = new RepeatSchedule(rs.getString(1), rs.getString(2),
+                            RecurrenceRule.parse(rs.getString(3), baseDate),
+                            LocalTime.ofNanoOfDay(rs.getLong(5)), LocalTime.ofNanoOfDay(rs.getLong(6)));
+                    patterns.put(pattern.getId(), pattern);
+                    sink.accept(pattern);
+                }
+            }
+            try (PreparedStatement ps = connection().prepareStatement(
+                    "SELECT repeat_id, day_key, completed, skipped, start_nanos, end_nanos FROM repeat_override");
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    RepeatSchedule pattern = patterns.get(rs.getString(1));
+                    if (pattern == null) continue;
+                    long start = rs.getLong(5);
+                    LocalTime startTime = rs.wasNull() ? null : LocalTime.ofNanoOfDay(start);
+                    long end = rs.getLong(6);
+                    LocalTime endTime = rs.wasNull() ? null : LocalTime.ofNanoOfDay(end);
+                    pattern.putOverride(LocalDate.ofEpochDay(rs.getInt(2)),
+                            new RepeatSchedule.OccurrenceOverride(rs.getInt(3) != 0, rs.getInt(4) != 0,
+                                    startTime, endTime));
+                }
+            }
+        } catch (SQLException e) {
+            throw wrap("반복 패턴 읽기", e);
+        }
+    }
+
+    /**
+     * 날짜 인덱스로 그 달의 행만 읽음
+     */
+    @Override
+    public void readMonth(YearMonth month, Consumer<ISchedule> sink) throws IOException {
+        try (PreparedStatement ps = connection().prepareStatement(
+                "SELECT " + SCHEDULE_COLUMNS + " FROM schedule WHERE day_key BETWEEN ? AND ? ORDER BY day_key, seq")) {
+            setMonthRange(ps, month);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Schedule s = new Schedule(rs.getString(1), rs.getInt(2), rs.getInt(3), rs.getInt(4),
+                            rs.getInt(5), rs.getInt(6), rs.getInt(7), rs.getInt(8),
+                            rs.getString(9), rs.getString(11));
+                    s.setCompleted(rs.getInt(10) != 0);
+                    sink.accept(s);
+                }
+            }
+        } catch (SQLException e) {
+            throw wrap(month + " 읽기", e);
+        }
+    }
+
+    /**
+     * 반복 패턴 ID 인덱스로 파생 일정이 있는 달만 찾음
+     */
+    @Override
+    public Set<YearMonth> findMonthsOfRepeat(String repeatId) throws IOException {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        try (PreparedStatement ps = connection().prepareStatement(
+                "SELECT DISTINCT year_value, month_value FROM schedule WHERE repeat_id = ?")) {
+            ps.setString(1, repeatId);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) months.add(YearMonth.of(rs.getInt(1), rs.getInt(2)));
+            }
+        } catch (SQLException e) {
+            throw wrap("반복 일정 검색", e);
+        }
+        return months;
+    }
+
+    // ===== 쓰기 =====
+    // DB 파일의 실제 증가량은 알 수 없으므로 기록한 값의 크기(문자열은 UTF-8)를 바이트 수로 반환
+
+    @Override
+    public long writePatterns(Collection<RepeatSchedule> patterns) throws IOException {
+        long bytes = 0;
+        try {
+            Connection c = connection();
+            try (Statement st = c.createStatement()) {
+                st.executeUpdate("DELETE FROM repeat_override");
+                st.executeUpdate("DELETE FROM repeat_pattern");
+            }
+            try (PreparedStatement ps = c.prepareStatement("INSERT INTO repeat_pattern "
+                    + "(id, seq, title, rule_text, base_day, start_nanos, end_nanos) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                int seq = 0;
+                for (RepeatSchedule rs : patterns) {
+                    String rule = rs.getRule().toString();
+                    ps.setString(1, rs.getId());
+                    ps.setInt(2, seq++);
+                    ps.setString(3, rs.getTodo());
+                    ps.setString(4, rule);
+                    ps.setInt(5, Math.toIntExact(rs.getBaseDate().toEpochDay()));
+                    ps.setLong(6, rs.getStartTime().toNanoOfDay());
+                    ps.setLong(7, rs.getEndTime().toNanoOfDay());
+                    ps.addBatch();
+                    bytes += PATTERN_FIXED_BYTES + utf8Length(rs.getId()) + utf8Length(rs.getTodo())
+                            + utf8Length(rule);
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = c.prepareStatement("INSERT INTO repeat_override "
+                    + "(repeat_id, day_key, completed, skipped, start_nanos, end_nanos) VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (RepeatSchedule rs : patterns) {
+                    for (Map.Entry<Long, RepeatSchedule.OccurrenceOverride> e : rs.getOverrides().entrySet()) {
+                        RepeatSchedule.OccurrenceOverride o = e.getValue();
+                        ps.setString(1, rs.getId());
+                        ps.setInt(2, Math.toIntExact(e.getKey()));
+                        ps.setInt(3, o.isCompleted() ? 1 : 0);
+                        ps.setInt(4, o.isSkipped() ? 1 : 0);
+                        setNanos(ps, 5, o.getStartTime());
+                        setNanos(ps, 6, o.getEndTime());
+                        ps.addBatch();
+                        bytes += OVERRIDE_FIXED_BYTES + utf8Length(rs.getId());
+                    }
+                }
+                ps.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw wrap("반복 패턴 저장", e);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long writeMonth(YearMonth month, Collection<Schedule> schedules) throws IOException {
+        long bytes = 0;
+        try {
+            Connection c = connection();
+            try (PreparedStatement ps = c.prepareStatement("DELETE FROM schedule WHERE day_key BETWEEN ? AND ?")) {
+                setMonthRange(ps, month);
+                ps.executeUpdate();
+            }
+            if (schedules.isEmpty()) return 0;
+
+            try (PreparedStatement ps = c.prepareStatement("INSERT INTO schedule (day_key, seq, " + SCHEDULE_COLUMNS
+                    + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                int seq = 0;
+                for (Schedule s : schedules) {
+                    ps.setInt(1, Math.toIntExact(s.getDate().toEpochDay()));
+                    ps.setInt(2, seq++);
+                    ps.setString(3, s.getId());
+                    ps.setInt(4, s.getYear());
+                    ps.setInt(5, s.getMonth());
+                    ps.setInt(6, s.getDay());
+                    ps.setInt(7, s.getStartHour());
+                    ps.setInt(8, s.getStartMinute());
+                    ps.setInt(9, s.getEndHour());
+                    ps.setInt(10, s.getEndMinute());
+                    ps.setString(11, s.getTodo());
+                    ps.setInt(12, s.isChecked() ? 1 : 0);
+                    ps.setString(13, s.getFromRepeatId());
+                    ps.addBatch();
+                    bytes += SCHEDULE_FIXED_BYTES + utf8Length(s.getId()) + utf8Length(s.getTodo())
+                            + utf8Length(s.getFromRepeatId());
+                }
+                ps.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw wrap(month + " 저장", e);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long writeIndex(Collection<MonthEntry> entries) throws IOException {
+        try {
+            Connection c = connection();
+            try (Statement st = c.createStatement()) {
+                st.executeUpdate("DELETE FROM month_index");
+                st.executeUpdate("DELETE FROM store_info WHERE name = 'saved_at'");
+            }
+            try (PreparedStatement ps = c.prepareStatement(
+                    "INSERT INTO month_index (month_key, total, completed) VALUES (?, ?, ?)")) {
+                for (MonthEntry e : entries) {
+                    ps.setString(1, e.month.toString());
+                    ps.setInt(2, e.total);
+                    ps.setInt(3, e.completed);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (PreparedStatement ps = c.prepareStatement(
+                    "INSERT INTO store_info (name, info_value) VALUES ('saved_at', ?)")) {
+                ps.setLong(1, System.currentTimeMillis());
+                ps.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw wrap("목록 저장", e);
+        }
+        return (long) MONTH_ENTRY_BYTES * entries.size();
+    }
+
+    @Override
+    public void commit() throws IOException {
+        try {
+            connection().commit();
+        } catch (SQLException e) {
+            throw wrap("커밋", e);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        try {
+            if (connection != null) connection.rollback();
+        } catch (SQLException e) {
+            System.err.println("일정 DB 롤백 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 반영하지 않은 쓰기를 취소하고 연결 닫기 (내장 DB가 파일을 정리하고 잠금을 풀도록)
+     */
+    @Override
+    public void close() throws IOException {
+        if (connection == null) return;
+        try {
+            connection.rollback();
+            connection.close();
+        } catch (SQLException e) {
+            throw wrap("닫기", e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    // ===== 도우미 =====
+
+    private static void setMonthRange(PreparedStatement ps, YearMonth month) throws SQLException {
+        ps.setInt(1, Math.toIntExact(month.atDay(1).toEpochDay()));
+        ps.setInt(2, Math.toIntExact(month.atEndOfMonth().toEpochDay()));
+    }
+
+    private static void setNanos(PreparedStatement ps, int index, LocalTime time) throws SQLException {
+        if (time == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, time.toNanoOfDay());
+        }
+    }
+
+    private static int utf8Length(String s) {
+        return s == null ? 0 : s.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
\ No newline at end of file
@@ -1,24 +1,40 @@
 import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 메인 애플리케이션 진입점 (Single Responsibility Principle)
  * 애플리케이션 초기화와 실행만 담당
  */
 public class Main {
-    public static void main(String[] args) {
-        // Swing 애플리케이션은 EDT(Event Dispatch Thread)에서 실행
-        SwingUtilities.invokeLater(() -> {
-            try {
-                // 애플리케이션 초기화
-                ApplicationContext context = initializeApplication();
 
-                // UI 생성
-                createAndShowUI(context);
+    // 파일 읽기 스레드 수 (일정 CSV 3개 + 프로젝트 로드 1개)
+    private static final int LOADER_THREADS = 4;
 
-            } catch (Exception e) {
-                showErrorAndExit("애플리케이션 시작 중 오류가 발생했습니다.", e);
-            }
-        });
+    // 로드 중 표시하는 시작 화면 (EDT에서만 접근)
+    private static JWindow splash;
+
+    public static void main(String[] args) {
+        // Swing 컴포넌트는 EDT(Event Dispatch Thread)에서 생성: 시작 화면부터 표시
+        SwingUtilities.invokeLater(Main::showSplash);
+
+        try {
+            // 애플리케이션 초기화 (파일 로드는 EDT 밖에서)
+            ApplicationContext context = initializeApplication();
+
+            // UI 생성 (로드된 상태는 invokeLater를 통해 EDT에 전달)
+            createAndShowUI(context);
+
+        } catch (Exception e) {
+            // 백그라운드 로드 실패는 원래 예외로 표시
+            Exception cause = (e instanceof CompletionException && e.getCause() instanceof Exception)
+                    ? (Exception) e.getCause() : e;
+            SwingUtilities.invokeLater(() ->
+                    showErrorAndExit("애플리케이션 시작 중 오류가 발생했습니다.", cause));
+        }
     }
 
     /**
@@ -26,47 +42,86 @@ public class Main {
      * Dependency Inversion: 인터페이스에 의존
      */
     private static ApplicationContext initializeApplication() {
+        long start = System.nanoTime();
         System.out.println("=== 프로그램 시작: 데이터 로드 중 ===");
 
-        // 1. Manager 생성
-        ScheduleManager scheduleManager = new ScheduleManager();
-        ProjectManager projectManager = new ProjectManager();
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, task -> {
+            Thread thread = new Thread(task, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // 1. 프로젝트는 별도 스레드에서 로드 (생성자에서 두 파일을 동시에 읽음)
+            CompletableFuture<ProjectManager> projectManager =
+                    CompletableFuture.supplyAsync(() -> new ProjectManager(loader), loader);
+
+            // 2. 일정은 이 스레드에서 로드 (세 CSV 파일을 동시에 읽음)
+            ScheduleManager scheduleManager = new ScheduleManager();
 
-        // 2. Service 생성 (Dependency Injection)
-        ScheduleService scheduleService = new ScheduleService(scheduleManager);
+            // 반복 일정 지연 전개 모드 (-Dteamplanner.lazyRepeat=true)
+            scheduleManager.setLazyRepeatExpansion(Boolean.getBoolean("teamplanner.lazyRepeat"));
 
-        // 3. 데이터 로드
-        loadData(scheduleManager, projectManager);
+            // 일반 일정 + 반복 일정 패턴 + 반복일정 파생 일정 로드
+            scheduleManager.loadSchedulesFromCsv(loader);
 
-        System.out.println("=== 데이터 로드 완료 ===\n");
+            // 3. Service 생성 (Dependency Injection)
+            ScheduleService scheduleService = new ScheduleService(scheduleManager);
 
-        return new ApplicationContext(scheduleService, projectManager);
+            ProjectManager projects = projectManager.join();
+            System.out.println("프로젝트 " + projects.count() + "개 로드 완료");
+
+            System.out.println("=== 데이터 로드 완료" + ScheduleManager.elapsed(start) + " ===\n");
+
+            return new ApplicationContext(scheduleService, projects);
+        } finally {
+            loader.shutdown();
+        }
     }
 
     /**
-     * 모든 데이터 로드 (Single Responsibility)
+     * 로드 중 시작 화면 표시
      */
-    private static void loadData(ScheduleManager scheduleManager, ProjectManager projectManager) {
-        // 일반 일정 + 반복 일정 패턴 + 반복일정 파생 일정 로드
-        scheduleManager.loadSchedulesFromCsv();
+    private static void showSplash() {
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
+
+        JLabel label = new JLabel("일정 관리 시스템 - 데이터를 불러오는 중...", JLabel.CENTER);
+        label.setFont(new Font("맑은 고딕", Font.BOLD, 16));
+        JProgressBar progress = new JProgressBar();
+        progress.setIndeterminate(true);
+
+        panel.add(label, BorderLayout.CENTER);
+        panel.add(progress, BorderLayout.SOUTH);
+
+        splash = new JWindow();
+        splash.setContentPane(panel);
+        splash.pack();
+        splash.setLocationRelativeTo(null);
+        splash.setVisible(true);
+    }
 
-        // 프로젝트는 ProjectManager 생성자에서 자동 로드됨
-        System.out.println("프로젝트 " + projectManager.count() + "개 로드 완료");
+    private static void closeSplash() {
+        if (splash != null) {
+            splash.dispose();
+            splash = null;
+        }
     }
 
     /**
      * UI 생성 및 표시
      */
     private static void createAndShowUI(ApplicationContext context) {
-        SwingUtilities.invokeLater(() ->
-                new ScheduleFrame(context.getScheduleService(), context.getProjectManager())
-        );
+        SwingUtilities.invokeLater(() -> {
+            new ScheduleFrame(context.getScheduleService(), context.getProjectManager());
+            closeSplash();
+        });
     }
 
     /**
      * 오류 표시 및 프로그램 종료
      */
     private static void showErrorAndExit(String message, Exception e) {
+        closeSplash();
         System.err.println(message);
         e.printStackTrace();
 
@@ -0,0 +1,228 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추가 전용 변경 기록 (Single Responsibility Principle)
+ * 전체 파일을 다시 쓰는 대신 추가/삭제/완료/수정 연산을 작은 레코드로 이어 붙인다.
+ *
+ * 레코드 형식: 한 줄에 하나, "종류\t필드1\t필드2..." (UTF-8)
+ *   필드 안의 \, 탭, 줄바꿈은 \\, \t, \n, \r 로, null은 \0 으로 표기
+ *
+ * append()는 메모리에만 쌓고 commit()에서 GroupCommit을 통해 파일 끝에 기록하므로
+ * '저장' 전의 변경은 이전과 같이 다시 로드하면 사라진다.
+ * 기록은 같은 상태를 다시 적용해도 결과가 같도록(멱등) 작성해야 하며,
+ * 그래야 압축(전체 저장) 도중 중단되어도 재생 결과가 같다.
+ */
+public class MutationJournal {
+
+    /**
+     * 재생 시 레코드마다 호출
+     */
+    public interface Replayer {
+        void apply(String type, String[] fields);
+    }
+
+    private final Path file;
+    private final GroupCommit commits;
+    private final StringBuilder pending = new StringBuilder();
+    private int pendingCount;
+    private int committedCount;
+    private boolean appendFailed; // 앞선 추가가 실패해 파일 끝이 잘린 줄일 수 있음
+
+    public MutationJournal(String file) {
+        this(file, GroupCommit.getDefault());
+    }
+
+    public MutationJournal(String file, GroupCommit commits) {
+        this.file = Path.of(file);
+        this.commits = commits;
+    }
+
+    /**
+     * 레코드 추가 (commit() 전까지 메모리에 보관)
+     */
+    public void append(String type, Object... fields) {
+        pending.append(type);
+        for (Object field : fields) {
+            pending.append('\t');
+            if (field == null) {
+                pending.append("\\0");
+            } else {
+                escape(String.valueOf(field), pending);
+            }
+        }
+        pending.append('\n');
+        pendingCount++;
+    }
+
+    /**
+     * 기록 파일이 있는지 확인 (재생할 기록이 남아 있는지)
+     */
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * 쌓인 레코드를 파일 끝에 추가하고 반영될 때까지 대기 (fsync는 GroupCommit이 다른 저장과 묶어서 처리)
+     * 실패하면 레코드는 대기 상태로 남아 다음 commit()에서 다시 기록됨 (재생은 멱등)
+     * @return 추가한 바이트 수 (레코드 수는 호출 전 getPendingCount())
+     * @throws IOException 추가 기록 또는 fsync가 실패한 경우
+     */
+    public long commit() throws IOException {
+        if (pendingCount == 0) return 0;
+
+        // 실패한 추가가 줄 중간에서 끊겼을 수 있으므로 빈 줄로 시작해 잘린 줄과 섞이지 않게 함
+        String text = appendFailed ? "\n" + pending : pending.toString();
+        byte[] records = text.getBytes(StandardCharsets.UTF_8);
+        try {
+            GroupCommit.await(commits.append(file, records));
+        } catch (IOException e) {
+            appendFailed = true;
+            throw e;
+        }
+        appendFailed = false;
+        committedCount += pendingCount;
+        pending.setLength(0);
+        pendingCount = 0;
+        return records.length;
+    }
+
+    /**
+     * 쌓인 레코드를 꺼내 기록된 것으로 처리 (다른 스레드에서 파일에 추가할 때 사용)
+     * @return 레코드 바이트, 없으면 null
+     */
+    public byte[] takePending() {
+        if (pendingCount == 0) return null;
+
+        byte[] records = pending.toString().getBytes(StandardCharsets.UTF_8);
+        committedCount += pendingCount;
+        pending.setLength(0);
+        pendingCount = 0;
+        return records;
+    }
+
+    /**
+     * 저장하지 않은 레코드 버리기
+     */
+    public void discardPending() {
+        pending.setLength(0);
+        pendingCount = 0;
+    }
+
+    /**
+     * 압축 후 호출: 대기 중인 레코드를 비우고 파일 삭제를 요청
+     * (앞서 요청한 스냅샷 교체가 반영된 뒤에 삭제됨)
+     */
+    public void reset() {
+        clearCounts();
+        commits.delete(file);
+    }
+
+    /**
+     * 대기 중인 레코드와 기록 개수만 비움 (파일 삭제를 다른 스레드에서 요청할 때 사용)
+     */
+    public void clearCounts() {
+        discardPending();
+        committedCount = 0;
+    }
+
+    /**
+     * 파일에 기록된 레코드를 순서대로 재생
+     * 끝이 잘린 마지막 줄과 적용에 실패한 레코드는 알리고 건너뜀
+     * @return 적용한 레코드 수 (파일이 없으면 0)
+     * @throws IOException 파일을 읽을 수 없는 경우 (빈 기록으로 보고 넘어가면 압축할 때 기록이 지워지므로)
+     */
+    public int replay(Replayer replayer) throws IOException {
+        String text;
+        try {
+            // 추가 도중 끊긴 마지막 줄은 글자 중간에서 잘렸을 수 있으므로 예외 없이 디코딩 (그 줄은 건너뜀)
+            text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+
+        int applied = 0;
+        int lineNumber = 0;
+        int start = 0;
+        committedCount = 0;
+        while (start < text.length()) {
+            int end = text.indexOf('\n', start);
+            lineNumber++;
+            if (end < 0) {
+                System.err.println("변경 기록의 마지막 줄이 완전하지 않아 건너뜁니다 (" + lineNumber + "행)");
+                break;
+            }
+            String line = text.substring(start, end);
+            start = end + 1;
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            committedCount++;
+
+            String[] parts = split(line);
+            String[] fields = new String[parts.length - 1];
+            System.arraycopy(parts, 1, fields, 0, fields.length);
+            try {
+                replayer.apply(parts[0], fields);
+                applied++;
+            } catch (RuntimeException e) {
+                System.err.println("변경 기록 적용 오류 (" + lineNumber + "행): " + line + " - " + e.getMessage());
+            }
+        }
+        return applied;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * 파일에 기록된 레코드 수 (압축 시점 판단용)
+     */
+    public int getCommittedCount() {
+        return committedCount;
+    }
+
+    private static void escape(String s, StringBuilder out) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isNull = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(isNull ? null : field.toString());
+                field.setLength(0);
+                isNull = false;
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                switch (next) {
+                    case 't' -> field.append('\t');
+                    case 'n' -> field.append('\n');
+                    case 'r' -> field.append('\r');
+                    case '0' -> isNull = true;
+                    default -> field.append(next);
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(isNull ? null : field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
\ No newline at end of file
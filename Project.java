@@ -1,7 +1,12 @@
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * 프로젝트 도메인 모델 (Single Responsibility Principle)
@@ -10,12 +15,71 @@ import java.util.List;
 public class Project {
     private String name;
     private final LocalDate createdDate;
-    private final List<ProjectTask> tasks;
+
+    // ID -> 할일 (추가 순서 유지, 저장 순서로 사용)
+    private final Map<Integer, ProjectTask> tasks = new LinkedHashMap<>();
+    private int nextTaskId = 1;
+
+    // 날짜 인덱스: 날짜 -> 그 날의 할일과 완료 개수 (추가 순서, 할일 날짜가 바뀌면 옮김)
+    private final NavigableMap<LocalDate, DayTasks> tasksByDate = new TreeMap<>();
+
+    // 진척도 집계: 할일 추가/삭제/완료 변경 때마다 갱신 (전체 개수는 tasks.size())
+    private int completedCount;
+
+    // 변경 통지 대상 (ProjectManager의 변경 기록용)
+    private ChangeListener changeListener;
+    private final ProjectTask.ChangeListener taskListener = new ProjectTask.ChangeListener() {
+        @Override
+        public void onEdited(ProjectTask task, LocalDate oldDate, String oldContent) {
+            if (!oldDate.equals(task.getDate())) {
+                unindex(task, oldDate);
+                index(task);
+            }
+            if (changeListener != null) changeListener.onTaskEdited(Project.this, task, oldDate, oldContent);
+        }
+
+        @Override
+        public void onCompletionChanged(ProjectTask task) {
+            int oldProgress = getProgress();
+            int delta = task.isCompleted() ? 1 : -1;
+            completedCount += delta;
+            DayTasks day = tasksByDate.get(task.getDate());
+            if (day != null) day.completed += delta;
+            notifyProgress(oldProgress);
+            if (changeListener != null) changeListener.onTaskCompletionChanged(Project.this, task);
+        }
+    };
+
+    /**
+     * 한 날짜의 할일과 완료 개수
+     */
+    private static final class DayTasks {
+        final List<ProjectTask> tasks = new ArrayList<>();
+        int completed;
+    }
+
+    /**
+     * 프로젝트와 소속 할일 변경 리스너
+     */
+    interface ChangeListener {
+        /**
+         * 이름을 바꾸기 전에 호출 (허용하지 않으면 IllegalArgumentException)
+         */
+        void onRenaming(Project project, String newName);
+        void onRenamed(Project project, String oldName);
+        void onTaskAdded(Project project, ProjectTask task);
+        void onTaskRemoved(Project project, ProjectTask task);
+        void onTaskEdited(Project project, ProjectTask task, LocalDate oldDate, String oldContent);
+        void onTaskCompletionChanged(Project project, ProjectTask task);
+        /**
+         * 할일 추가/삭제/완료 변경으로 진척도가 바뀐 뒤 호출
+         */
+        void onProgressChanged(Project project, int oldProgress);
+    }
 
     public Project(String name) {
         this.name = name;
         this.createdDate = LocalDate.now();
-        this.tasks = new ArrayList<>();
     }
 
     // ===== Getters and Setters =====
@@ -28,7 +92,11 @@ public class Project {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("프로젝트명은 비어있을 수 없습니다.");
         }
+        String oldName = this.name;
+        if (oldName.equals(name)) return;
+        if (changeListener != null) changeListener.onRenaming(this, name);
         this.name = name;
+        if (changeListener != null) changeListener.onRenamed(this, oldName);
     }
 
     public LocalDate getCreatedDate() {
@@ -36,48 +104,120 @@ public class Project {
     }
 
     /**
-     * 읽기 전용 태스크 목록 반환 (Encapsulation)
+     * 읽기 전용 태스크 목록 반환 (Encapsulation, 추가 순서)
      */
-    public List<ProjectTask> getTasks() {
-        return Collections.unmodifiableList(tasks);
+    public Collection<ProjectTask> getTasks() {
+        return Collections.unmodifiableCollection(tasks.values());
+    }
+
+    /**
+     * ID로 할일 찾기 (없으면 null)
+     */
+    public ProjectTask findTask(int id) {
+        return tasks.get(id);
     }
 
     // ===== Task 관리 메서드 =====
 
     /**
-     * 할일 추가
+     * 할일 추가 (ID가 없거나 이미 쓰인 ID면 새 ID를 정함)
      */
     public void addTask(ProjectTask task) {
         if (task == null) {
             throw new IllegalArgumentException("Task는 null일 수 없습니다.");
         }
-        tasks.add(task);
+        if (tasks.get(task.getId()) == task) {
+            throw new IllegalArgumentException("이미 추가된 할일입니다.");
+        }
+        if (task.getId() == 0 || tasks.containsKey(task.getId())) {
+            task.setId(nextTaskId);
+        }
+        nextTaskId = Math.max(nextTaskId, task.getId() + 1);
+
+        int oldProgress = getProgress();
+        tasks.put(task.getId(), task);
+        index(task);
+        if (task.isCompleted()) completedCount++;
+        task.setChangeListener(taskListener);
+        notifyProgress(oldProgress);
+        if (changeListener != null) changeListener.onTaskAdded(this, task);
     }
 
     /**
-     * 할일 제거
+     * 할일 제거 (이 프로젝트의 할일이 아니면 무시)
      */
     public void removeTask(ProjectTask task) {
-        tasks.remove(task);
+        if (task != null && tasks.get(task.getId()) == task) removeTask(task.getId());
     }
 
     /**
-     * 특정 날짜의 할일 목록 조회
-     * Open-Closed: 필터링 로직 확장 가능
+     * ID로 할일 제거
+     */
+    public void removeTask(int id) {
+        ProjectTask removed = tasks.get(id);
+        if (removed == null) return;
+        int oldProgress = getProgress();
+        tasks.remove(id);
+        unindex(removed, removed.getDate());
+        if (removed.isCompleted()) completedCount--;
+        removed.setChangeListener(null);
+        notifyProgress(oldProgress);
+        if (changeListener != null) changeListener.onTaskRemoved(this, removed);
+    }
+
+    /**
+     * ID로 할일의 날짜와 내용 수정
+     * @return 할일이 있으면 true
+     */
+    public boolean editTask(int id, LocalDate date, String content) {
+        ProjectTask task = tasks.get(id);
+        if (task == null) return false;
+        task.edit(date, content);
+        return true;
+    }
+
+    void setChangeListener(ChangeListener listener) { this.changeListener = listener; }
+
+    private void notifyProgress(int oldProgress) {
+        if (changeListener != null && getProgress() != oldProgress) {
+            changeListener.onProgressChanged(this, oldProgress);
+        }
+    }
+
+    private void index(ProjectTask task) {
+        DayTasks day = tasksByDate.computeIfAbsent(task.getDate(), d -> new DayTasks());
+        day.tasks.add(task);
+        if (task.isCompleted()) day.completed++;
+    }
+
+    /**
+     * 날짜 인덱스에서 제거 (같은 날짜/내용의 다른 할일이 있을 수 있으므로 객체로 비교)
+     */
+    private void unindex(ProjectTask task, LocalDate date) {
+        DayTasks day = tasksByDate.get(date);
+        if (day == null || !day.tasks.removeIf(t -> t == task)) return;
+        if (task.isCompleted()) day.completed--;
+        if (day.tasks.isEmpty()) tasksByDate.remove(date);
+    }
+
+    /**
+     * 특정 날짜의 할일 목록 조회 (날짜 인덱스에서 바로 찾음)
      */
     public List<ProjectTask> getTasksOn(LocalDate date) {
-        return tasks.stream()
-                .filter(t -> t.getDate().equals(date))
-                .toList();
+        DayTasks day = tasksByDate.get(date);
+        return day == null ? List.of() : List.copyOf(day.tasks);
     }
 
     /**
-     * 날짜 범위의 할일 목록 조회
+     * 날짜 범위의 할일 목록 조회 (날짜 순)
      */
     public List<ProjectTask> getTasksBetween(LocalDate start, LocalDate end) {
-        return tasks.stream()
-                .filter(t -> !t.getDate().isBefore(start) && !t.getDate().isAfter(end))
-                .toList();
+        if (start.isAfter(end)) return List.of();
+        List<ProjectTask> result = new ArrayList<>();
+        for (DayTasks day : tasksByDate.subMap(start, true, end, true).values()) {
+            result.addAll(day.tasks);
+        }
+        return Collections.unmodifiableList(result);
     }
 
     // ===== 진척도 계산 =====
@@ -87,20 +227,14 @@ public class Project {
      * 0 ~ 100 사이의 정수 반환
      */
     public int getProgress() {
-        if (tasks.isEmpty()) {
-            return 0;
-        }
-        long completed = countCompletedTasks();
-        return (int) Math.round((completed * 100.0) / tasks.size());
+        return progressOf(completedCount, tasks.size());
     }
 
     /**
-     * 완료된 할일 개수
+     * 완료된 할일 개수 (집계 값)
      */
     public long countCompletedTasks() {
-        return tasks.stream()
-                .filter(ProjectTask::isCompleted)
-                .count();
+        return completedCount;
     }
 
     /**
@@ -114,14 +248,15 @@ public class Project {
      * 특정 날짜의 진척도
      */
     public int getProgressOn(LocalDate date) {
-        List<ProjectTask> dateTasks = getTasksOn(date);
-        if (dateTasks.isEmpty()) {
+        DayTasks day = tasksByDate.get(date);
+        return day == null ? 0 : progressOf(day.completed, day.tasks.size());
+    }
+
+    private static int progressOf(long completed, int total) {
+        if (total == 0) {
             return 0;
         }
-        long completed = dateTasks.stream()
-                .filter(ProjectTask::isCompleted)
-                .count();
-        return (int) Math.round((completed * 100.0) / dateTasks.size());
+        return (int) Math.round((completed * 100.0) / total);
     }
 
     @Override
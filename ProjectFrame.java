@@ -100,11 +100,15 @@ public class ProjectFrame extends JPanel {
                 return;
             }
 
-            if (existingProject == null) {
-                Project project = new Project(name);
-                projectManager.add(project);
-            } else {
-                existingProject.setName(name);
+            try {
+                if (existingProject == null) {
+                    projectManager.add(new Project(name));
+                } else {
+                    existingProject.setName(name);
+                }
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(dialog, ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                return;
             }
             refresh();
             dialog.dispose();
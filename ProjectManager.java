@@ -1,8 +1,16 @@
 import java.io.*;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * 프로젝트 관리자 (Single Responsibility Principle)
@@ -11,12 +19,60 @@ import java.util.List;
 public class ProjectManager {
     private final List<Project> projects = new ArrayList<>();
 
+    // 이름 -> 프로젝트 (이름 변경은 ChangeListener로 반영, 이름은 중복될 수 없음)
+    private final Map<String, Project> projectsByName = new HashMap<>();
+
+    // 전체 진척도 집계: 진척도 합계와 완료(100%) 프로젝트 수 (Project의 진척도 변경 통지로 갱신)
+    private long progressSum;
+    private int completedProjects;
+
     // 파일 경로 상수
     private static final String DATA_FILE = "project_schedules.txt";
     private static final String PROJECT_LIST_FILE = "projects.txt";
+    private static final String JOURNAL_FILE = "projects.journal";
+
+    // 변경 기록이 이 개수와 전체 할일 수를 모두 넘으면 저장 시 전체 저장으로 압축
+    private static final int COMPACTION_MIN_RECORDS = 1000;
+
+    // 저장: 임시 파일 → fsync → 원자적 rename (다른 매니저의 저장과 함께 묶어서 처리)
+    private final GroupCommit commits = GroupCommit.getDefault();
+
+    // 변경 기록 (로드 중에는 null, 두 파일 위에 재생)
+    private MutationJournal journal;
+    private final Project.ChangeListener changeRecorder = new ChangeRecorder();
+
+    // 마지막 전체 저장 이후 변경된 단위: 목록 파일, 할일이 바뀐 프로젝트 (삭제/이름 변경 포함)
+    // 압축할 때 변경된 단위가 들어 있는 파일만 다시 씀
+    private boolean projectListDirty;
+    private final Set<Project> dirtyProjects = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // 할일 파일이 메모리보다 뒤처져 다음 저장에서 다시 써야 함
+    // 이전 형식이거나(로드 스레드에서 설정, join() 이후에 읽음) 앞선 전체 저장/변경 기록 추가가 실패한 경우
+    private boolean taskFileOutdated;
+
+    // 백그라운드 저장: 호출 스레드(EDT)는 저장할 내용만 넘기고 바로 돌아가며,
+    // 전용 스레드가 짧은 시간 안에 이어진 요청을 모아 한 번에 기록
+    private static final long WRITE_COALESCE_MILLIS = 20;
+    private final Object writerLock = new Object();
+    private ProjectSnapshot pendingSnapshot; // 아직 기록하지 않은 전체 저장 (가장 최근 것만 유지)
+    private final List<byte[]> pendingRecords = new ArrayList<>(); // 그 뒤에 쌓인 변경 기록
+    private int pendingRecordCount;
+    private long requestedWrites;
+    private long completedWrites;
+    private SaveReport written = SaveReport.NONE; // 지금까지 기록한 양 (writerLock)
+    private String writeError; // 다음 save()에서 알릴 기록 실패 내용 (writerLock)
+    private Thread writer;
 
     public ProjectManager() {
-        loadProjects(); // 프로그램 시작 시 데이터 로드
+        this(Runnable::run);
+    }
+
+    /**
+     * @param loader 두 파일을 동시에 읽을 executor (시작 시 백그라운드 로드용)
+     * @throws IllegalStateException 있는 파일을 읽을 수 없는 경우 (일부만 읽은 상태로 파일을 덮어쓰지 않도록)
+     */
+    public ProjectManager(Executor loader) {
+        loadProjects(loader); // 프로그램 시작 시 데이터 로드
     }
 
     // ===== CRUD 연산 =====
@@ -28,19 +84,27 @@ public class ProjectManager {
         if (project == null) {
             throw new IllegalArgumentException("Project는 null일 수 없습니다.");
         }
-        if (findByName(project.getName()) != null) {
+        if (projectsByName.containsKey(project.getName())) {
             throw new IllegalArgumentException("동일한 이름의 프로젝트가 이미 존재합니다.");
         }
-        projects.add(project);
-        saveProjects(); // 추가 시 저장
+        addProject(project);
+        project.setChangeListener(changeRecorder);
+        record(project, "PA", project.getName());
+        for (ProjectTask task : project.getTasks()) {
+            changeRecorder.onTaskAdded(project, task);
+        }
+        commitJournal(); // 추가 시 저장 (변경분만)
     }
 
     /**
      * 프로젝트 제거
      */
     public void remove(Project project) {
-        projects.remove(project);
-        saveProjects(); // 삭제 시 저장
+        if (removeProject(project)) {
+            project.setChangeListener(null);
+            record(project, "PD", project.getName());
+        }
+        commitJournal(); // 삭제 시 저장 (변경분만)
     }
 
     /**
@@ -54,10 +118,42 @@ public class ProjectManager {
      * 이름으로 프로젝트 찾기
      */
     public Project findByName(String name) {
-        return projects.stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return projectsByName.get(name);
+    }
+
+    private void addProject(Project project) {
+        projects.add(project);
+        projectsByName.put(project.getName(), project);
+        addToRollup(project.getProgress(), 1);
+    }
+
+    private boolean removeProject(Project project) {
+        if (!projects.remove(project)) return false;
+        projectsByName.remove(project.getName(), project);
+        addToRollup(project.getProgress(), -1);
+        return true;
+    }
+
+    private void addToRollup(int progress, int sign) {
+        progressSum += (long) sign * progress;
+        if (progress == 100) completedProjects += sign;
+    }
+
+    /**
+     * 로드/재생 뒤 집계를 다시 계산 (그동안은 진척도 변경 통지를 받지 않음)
+     */
+    private void recomputeRollup() {
+        progressSum = 0;
+        completedProjects = 0;
+        for (Project project : projects) addToRollup(project.getProgress(), 1);
+    }
+
+    /**
+     * 이름 변경 후 이름 색인 갱신
+     */
+    private void reindex(Project project, String oldName) {
+        projectsByName.remove(oldName, project);
+        projectsByName.put(project.getName(), project);
     }
 
     /**
@@ -73,96 +169,533 @@ public class ProjectManager {
      * 프로젝트 데이터 로드
      * Open-Closed: 로드 방식 변경 시 이 메서드만 수정
      */
-    private void loadProjects() {
+    private void loadProjects(Executor loader) {
+        journal = null; // 로드/재생 중의 변경은 기록하지 않음
+        awaitDurable(); // 진행 중인 저장이 끝난 파일을 읽음
         projects.clear();
+        projectsByName.clear();
+        projectListDirty = false;
+        dirtyProjects.clear();
+        taskFileOutdated = false;
+
+        // 두 파일은 동시에 읽고, 반영은 목록 → 할일 순서로
+        CompletableFuture<List<String>> names = CompletableFuture.supplyAsync(this::readProjectList, loader);
+        CompletableFuture<List<TaskLine>> tasks = CompletableFuture.supplyAsync(this::readProjectTasks, loader);
+
+        // 1단계: 프로젝트 목록 반영 (같은 이름이 다시 나오면 처음 것만 사용)
+        List<TaskLine> taskLines = joinLoad(tasks);
+        for (String name : joinLoad(names)) {
+            if (!projectsByName.containsKey(name)) addProject(new Project(name));
+        }
+
+        // 2단계: 각 프로젝트의 할일 반영
+        for (TaskLine line : taskLines) {
+            Project currentProject = findByName(line.projectName);
+            if (currentProject == null) {
+                // 프로젝트 목록에 없으면 새로 생성
+                currentProject = new Project(line.projectName);
+                addProject(currentProject);
+            }
+            currentProject.addTask(line.task);
+        }
 
-        // 1단계: 프로젝트 목록 로드
-        loadProjectList();
+        // 3단계: 마지막 전체 저장 이후의 변경 기록 재생
+        MutationJournal loaded = new MutationJournal(JOURNAL_FILE);
+        int replayed;
+        try {
+            replayed = loaded.replay(this::applyJournalRecord);
+        } catch (IOException e) {
+            throw new IllegalStateException("프로젝트 변경 기록(" + JOURNAL_FILE + ")을 읽을 수 없습니다: "
+                    + e.getMessage(), e);
+        }
+        if (replayed > 0) System.out.println("프로젝트 변경 기록 " + replayed + "건 재생 완료");
 
-        // 2단계: 각 프로젝트의 할일 로드
-        loadProjectTasks();
+        for (Project project : projects) {
+            project.setChangeListener(changeRecorder);
+        }
+        recomputeRollup();
+        journal = loaded;
 
         System.out.println("프로젝트 " + projects.size() + "개 로드 완료");
     }
 
     /**
-     * 프로젝트 목록만 로드 (할일이 없는 프로젝트도 로드)
+     * 파일 읽기 결과 (읽기 실패는 원래 예외로 전달)
      */
-    private void loadProjectList() {
+    private static <T> T joinLoad(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * 프로젝트 목록만 읽기 (할일이 없는 프로젝트도 포함)
+     * @throws IllegalStateException 파일이 있지만 읽을 수 없는 경우
+     */
+    private List<String> readProjectList() {
+        long start = System.nanoTime();
+        List<String> names = new ArrayList<>();
         try (BufferedReader br = new BufferedReader(new FileReader(PROJECT_LIST_FILE))) {
             String line;
             while ((line = br.readLine()) != null) {
                 if (line.trim().isEmpty() || line.startsWith("#")) continue;
 
-                String projectName = line.trim();
-                Project project = new Project(projectName);
-                projects.add(project);
+                names.add(line.trim());
             }
-            System.out.println("프로젝트 목록 로드 완료: " + projects.size() + "개");
+            System.out.println("프로젝트 목록 로드 완료: " + names.size() + "개" + ScheduleManager.elapsed(start));
         } catch (FileNotFoundException e) {
             System.out.println("프로젝트 목록 파일(" + PROJECT_LIST_FILE + ")을 찾을 수 없습니다.");
         } catch (Exception e) {
-            System.err.println("프로젝트 목록 로드 중 오류: " + e.getMessage());
+            throw new IllegalStateException("프로젝트 목록 파일(" + PROJECT_LIST_FILE + ")을 읽을 수 없습니다: "
+                    + e.getMessage(), e);
         }
+        return names;
     }
 
     /**
-     * 각 프로젝트의 할일 로드
+     * 각 프로젝트의 할일 읽기 (프로젝트 목록과 동시에 읽을 수 있도록 프로젝트명으로 보관)
+     * 이전 형식(프로젝트명|날짜|내용|완료[|ID])도 읽고, 다음 저장에서 현재 형식으로 바꿈
+     * @throws IllegalStateException 파일이 있지만 읽을 수 없는 경우 (손상되었거나 더 새로운 버전)
      */
-    private void loadProjectTasks() {
-        try (BufferedReader br = new BufferedReader(new FileReader(DATA_FILE))) {
-            String line;
+    private List<TaskLine> readProjectTasks() {
+        long start = System.nanoTime();
+        List<TaskLine> tasks = new ArrayList<>();
+        try (Reader reader = new FileReader(DATA_FILE)) {
+            ProjectTaskFileParser parser = new ProjectTaskFileParser();
+            // ProjectTask 객체 생성 (프로젝트에는 목록을 읽은 뒤 추가)
+            parser.parse(reader, (projectName, task) -> tasks.add(new TaskLine(projectName, task)),
+                    (lineNumber, line, problem) ->
+                            System.err.println("경고: 잘못된 프로젝트 데이터 라인 (" + lineNumber + "행, " + problem + "): " + line));
+
+            if (parser.getVersion() < ProjectTaskFileParser.VERSION) {
+                taskFileOutdated = true;
+                System.out.println("프로젝트 할일 파일이 이전 형식입니다. 다음 저장 시 새 형식으로 변환합니다.");
+            }
+            System.out.println("프로젝트 할일 로드 완료: " + tasks.size() + "개" + ScheduleManager.elapsed(start));
+        } catch (FileNotFoundException e) {
+            System.out.println("프로젝트 할일 파일(" + DATA_FILE + ")을 찾을 수 없습니다.");
+        } catch (Exception e) {
+            throw new IllegalStateException("프로젝트 할일 파일(" + DATA_FILE + ")을 읽을 수 없습니다: "
+                    + e.getMessage(), e);
+        }
+        return tasks;
+    }
 
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty() || line.startsWith("#")) continue;
+    /**
+     * project_schedules.txt 한 줄
+     */
+    private static final class TaskLine {
+        final String projectName;
+        final ProjectTask task;
+
+        TaskLine(String projectName, ProjectTask task) {
+            this.projectName = projectName;
+            this.task = task;
+        }
+    }
+
+    /**
+     * 현재 프로젝트 목록과 할일을 파일에 저장
+     * 목록은 호출 시점에 복사하고, 파일 기록은 백그라운드 스레드에서 수행
+     */
+    public void saveProjects() {
+        compact(true, true);
+    }
+
+    /**
+     * 지정한 파일을 다시 쓰고 변경 기록을 비움 (지정하지 않은 파일은 변경이 없어야 함)
+     */
+    private void compact(boolean writeList, boolean writeTasks) {
+        ProjectSnapshot snapshot = new ProjectSnapshot(projects, writeList, writeTasks);
+        if (journal != null) journal.clearCounts(); // 두 파일이 모든 변경을 포함하므로 기록 압축
+        projectListDirty = false;
+        dirtyProjects.clear();
+        if (writeTasks) taskFileOutdated = false;
+        enqueueWrite(snapshot, null, 0);
+    }
+
+    /**
+     * 변경분 저장: 쌓인 변경 기록만 파일 끝에 추가
+     * 기록이 데이터 크기만큼 쌓이면 변경된 파일만 다시 쓰는 압축으로 전환하므로
+     * 저장 비용은 평균적으로 변경 건수에 비례하고, 변경이 없으면 아무것도 쓰지 않음
+     * 기록이 끝날 때까지 기다린 뒤 실제로 기록한 양을 반환
+     */
+    public SaveReport save() {
+        SaveReport before = getWritten();
+        if (journal == null) {
+            saveProjects();
+        } else {
+            int records = journal.getCommittedCount() + journal.getPendingCount();
+            int size = projects.size();
+            for (Project project : projects) size += project.getTasks().size();
+            if (taskFileOutdated) {
+                // 이전 형식 변환 또는 실패한 저장 복구: 할일 파일은 모든 변경을 포함해 다시 쓰므로 기록도 함께 압축
+                compact(projectListDirty, true);
+            } else if (records > COMPACTION_MIN_RECORDS && records > size) {
+                System.out.println("프로젝트 변경 기록 " + records + "건을 압축합니다 (변경된 프로젝트 "
+                        + dirtyProjects.size() + "개).");
+                compact(projectListDirty, !dirtyProjects.isEmpty());
+            } else {
+                commitJournal();
+            }
+        }
+        flush();
+
+        SaveReport report = getWritten().minus(before);
+        String error = takeWriteError();
+        if (error != null) {
+            // 파일에 빠진 변경이 있을 수 있으므로 다음 저장에서 두 파일을 모두 다시 씀
+            projectListDirty = true;
+            taskFileOutdated = true;
+            report = report.plus(SaveReport.failed(error));
+        }
+        System.out.println("프로젝트 저장: " + report);
+        return report;
+    }
+
+    private void commitJournal() {
+        if (journal == null) return;
+        int count = journal.getPendingCount();
+        byte[] records = journal.takePending();
+        if (records == null) return;
+        enqueueWrite(null, records, count);
+    }
+
+    /**
+     * 백그라운드 스레드의 기록 실패 알림 (다음 save()에서 결과로 반환)
+     */
+    private void recordWriteError(String error) {
+        synchronized (writerLock) {
+            writeError = (writeError == null) ? error : writeError + "\n" + error;
+        }
+    }
+
+    private String takeWriteError() {
+        synchronized (writerLock) {
+            String error = writeError;
+            writeError = null;
+            return error;
+        }
+    }
+
+    /**
+     * 백그라운드 스레드가 지금까지 기록한 양 (누적)
+     */
+    private SaveReport getWritten() {
+        synchronized (writerLock) {
+            return written;
+        }
+    }
+
+    /**
+     * 지금까지 요청한 저장이 모두 파일에 기록될 때까지 대기 (디스크 반영은 기다리지 않음)
+     */
+    public void flush() {
+        synchronized (writerLock) {
+            long target = requestedWrites;
+            while (completedWrites < target) {
+                try {
+                    writerLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 지금까지 요청한 저장이 모두 디스크에 반영될 때까지 대기 (종료 전 호출)
+     */
+    public void awaitDurable() {
+        flush();
+        commits.awaitDurable();
+    }
+
+    // ===== 백그라운드 저장 =====
 
-                String[] parts = line.split("\\|", 4);
+    /**
+     * 저장 요청 추가
+     * 전체 저장은 그 이전의 변경 기록을 모두 포함하므로, 아직 기록하지 않은 이전 요청을 대체함
+     * (대체된 요청이 다시 쓰려던 파일도 함께 다시 씀)
+     */
+    private void enqueueWrite(ProjectSnapshot snapshot, byte[] records, int recordCount) {
+        synchronized (writerLock) {
+            if (snapshot != null) {
+                if (pendingSnapshot != null) snapshot.include(pendingSnapshot);
+                pendingSnapshot = snapshot;
+                pendingRecords.clear();
+                pendingRecordCount = 0;
+            }
+            if (records != null) {
+                pendingRecords.add(records);
+                pendingRecordCount += recordCount;
+            }
+            requestedWrites++;
+            if (writer == null) {
+                writer = new Thread(this::runWriter, "project-writer");
+                writer.setDaemon(true);
+                writer.start();
+            }
+            writerLock.notifyAll();
+        }
+    }
 
-                if (parts.length != 4) {
-                    System.err.println("경고: 잘못된 프로젝트 데이터 라인: " + line);
-                    continue;
+    private void runWriter() {
+        while (true) {
+            ProjectSnapshot snapshot;
+            List<byte[]> records;
+            int recordCount;
+            long upTo;
+            try {
+                synchronized (writerLock) {
+                    while (completedWrites == requestedWrites) writerLock.wait();
                 }
+                Thread.sleep(WRITE_COALESCE_MILLIS); // 뒤따르는 요청을 모아 한 번에 기록
+            } catch (InterruptedException e) {
+                return;
+            }
+            synchronized (writerLock) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                records = new ArrayList<>(pendingRecords);
+                pendingRecords.clear();
+                recordCount = pendingRecordCount;
+                pendingRecordCount = 0;
+                upTo = requestedWrites;
+            }
+
+            SaveReport report = SaveReport.NONE;
+            try {
+                report = writeBatch(snapshot, records, recordCount);
+            } catch (RuntimeException e) {
+                System.err.println("프로젝트 저장 중 오류: " + e.getMessage());
+                recordWriteError("프로젝트 저장 중 오류: " + e.getMessage());
+            }
+
+            synchronized (writerLock) {
+                written = written.plus(report);
+                completedWrites = upTo;
+                writerLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 전체 저장 → 변경 기록 삭제 → 이후 변경 기록 추가 순서로 GroupCommit에 요청
+     * 한 스레드에서 순서대로 요청하므로 압축이 그 뒤의 변경 기록을 지우지 않음
+     * 변경 기록은 두 파일의 교체가 반영된 것을 확인한 뒤에만 삭제
+     * @return 기록한 양 (실패는 recordWriteError()로 알림)
+     */
+    private SaveReport writeBatch(ProjectSnapshot snapshot, List<byte[]> records, int recordCount) {
+        Path journalFile = Path.of(JOURNAL_FILE);
+        SaveReport report = SaveReport.NONE;
+        if (snapshot != null) {
+            SaveReport list = snapshot.writeList ? saveProjectList(snapshot) : SaveReport.NONE;
+            SaveReport tasks = snapshot.writeTasks ? saveProjectTasks(snapshot) : SaveReport.NONE;
+            // 두 파일 중 하나라도 실패하면 기존 기록을 남겨 두어야 재생으로 복구 가능
+            if (list != null && tasks != null) {
+                commits.delete(journalFile);
+                report = list.plus(tasks);
+            }
+        }
+        if (records.isEmpty()) return report;
+
+        int length = 0;
+        for (byte[] r : records) length += r.length;
+        byte[] merged = new byte[length];
+        int offset = 0;
+        for (byte[] r : records) {
+            System.arraycopy(r, 0, merged, offset, r.length);
+            offset += r.length;
+        }
+        try {
+            GroupCommit.await(commits.append(journalFile, merged));
+        } catch (IOException e) {
+            recordWriteError("프로젝트 변경 기록 추가 중 오류: " + e.getMessage());
+            return report;
+        }
+        return report.plus(new SaveReport(recordCount, length, 1));
+    }
 
-                String projectName = parts[0].trim();
-                LocalDate date = LocalDate.parse(parts[1].trim());
-                String content = parts[2].trim();
-                boolean completed = Boolean.parseBoolean(parts[3].trim());
-
-                // 해당 프로젝트 찾기
-                Project currentProject = findByName(projectName);
-                if (currentProject == null) {
-                    // 프로젝트 목록에 없으면 새로 생성
-                    currentProject = new Project(projectName);
-                    projects.add(currentProject);
+    /**
+     * 저장 시점의 프로젝트 목록과 할일 복사본 (이후 EDT에서 변경되어도 기록 내용은 일관됨)
+     */
+    private static final class ProjectSnapshot {
+        final List<String> names = new ArrayList<>();
+        final List<String> taskProjects = new ArrayList<>();
+        final List<ProjectTask> tasks = new ArrayList<>();
+        boolean writeList;  // 목록 파일을 다시 쓸지
+        boolean writeTasks; // 할일 파일을 다시 쓸지
+
+        ProjectSnapshot(List<Project> projects, boolean writeList, boolean writeTasks) {
+            this.writeList = writeList;
+            this.writeTasks = writeTasks;
+            for (Project project : projects) {
+                names.add(project.getName());
+                for (ProjectTask task : project.getTasks()) {
+                    ProjectTask copy = new ProjectTask(task.getId(), task.getDate(), task.getContent());
+                    copy.setCompleted(task.isCompleted());
+                    taskProjects.add(project.getName());
+                    tasks.add(copy);
                 }
+            }
+        }
+
+        /**
+         * 대체하는 이전 요청이 다시 쓰려던 파일도 다시 쓰도록 합침
+         */
+        void include(ProjectSnapshot older) {
+            writeList |= older.writeList;
+            writeTasks |= older.writeTasks;
+        }
+    }
 
-                // ProjectTask 객체 생성 및 해당 프로젝트에 추가
-                ProjectTask task = new ProjectTask(date, content);
-                task.setCompleted(completed);
-                currentProject.addTask(task);
+    // ===== 변경 기록 =====
+    // PA/PD/PN: 프로젝트 추가/삭제/이름 변경, TA/TD/TE/TC: 할일 추가/삭제/수정/완료
+    // 할일은 (프로젝트명, 할일 ID)로 찾으며 (ID가 없는 이전 기록은 날짜와 내용으로),
+    // 모든 기록은 다시 적용해도 결과가 같음
+
+    private void record(Project project, String type, Object... fields) {
+        markChanged(project, type);
+        if (journal != null) journal.append(type, fields);
+    }
+
+    /**
+     * 기록 종류에 따라 변경된 단위 표시 (P*: 목록, 할일이 있는 프로젝트는 할일 파일도)
+     */
+    private void markChanged(Project project, String type) {
+        if (type.startsWith("P")) {
+            projectListDirty = true;
+            if (project != null && !project.getTasks().isEmpty()) dirtyProjects.add(project);
+        } else if (project != null) {
+            dirtyProjects.add(project);
+        }
+    }
+
+    /**
+     * Project 변경을 기록으로 변환
+     */
+    private class ChangeRecorder implements Project.ChangeListener {
+        @Override
+        public void onRenaming(Project project, String newName) {
+            Project other = projectsByName.get(newName);
+            if (other != null && other != project) {
+                throw new IllegalArgumentException("동일한 이름의 프로젝트가 이미 존재합니다.");
             }
-            System.out.println("프로젝트 할일 로드 완료");
-        } catch (FileNotFoundException e) {
-            System.out.println("프로젝트 할일 파일(" + DATA_FILE + ")을 찾을 수 없습니다.");
-        } catch (Exception e) {
-            System.err.println("프로젝트 할일 로드 중 오류: " + e.getMessage());
-            e.printStackTrace();
+        }
+
+        @Override
+        public void onRenamed(Project project, String oldName) {
+            reindex(project, oldName);
+            record(project, "PN", oldName, project.getName());
+        }
+
+        @Override
+        public void onTaskAdded(Project project, ProjectTask task) {
+            record(project, "TA", project.getName(), task.getDate(), task.getContent(), task.isCompleted(),
+                    task.getId());
+        }
+
+        @Override
+        public void onTaskRemoved(Project project, ProjectTask task) {
+            record(project, "TD", project.getName(), task.getDate(), task.getContent(), task.getId());
+        }
+
+        @Override
+        public void onTaskEdited(Project project, ProjectTask task, LocalDate oldDate, String oldContent) {
+            record(project, "TE", project.getName(), oldDate, oldContent, task.getDate(), task.getContent(),
+                    task.getId());
+        }
+
+        @Override
+        public void onTaskCompletionChanged(Project project, ProjectTask task) {
+            record(project, "TC", project.getName(), task.getDate(), task.getContent(), task.isCompleted(),
+                    task.getId());
+        }
+
+        @Override
+        public void onProgressChanged(Project project, int oldProgress) {
+            addToRollup(oldProgress, -1);
+            addToRollup(project.getProgress(), 1);
         }
     }
 
     /**
-     * 현재 프로젝트 목록과 할일을 파일에 저장
+     * 변경 기록 한 건 재생 (로드 중에만 호출되므로 다시 기록되지 않음)
+     * 재생한 변경은 아직 두 파일에 없으므로 변경된 단위로 표시
      */
-    public void saveProjects() {
-        saveProjectList();
-        saveProjectTasks();
+    private void applyJournalRecord(String type, String[] f) {
+        Project target = findByName(f[0]);
+        switch (type) {
+            case "PA" -> {
+                if (findByName(f[0]) == null) addProject(new Project(f[0]));
+            }
+            case "PD" -> {
+                Project project = findByName(f[0]);
+                if (project != null) removeProject(project);
+            }
+            case "PN" -> {
+                Project project = findByName(f[0]);
+                if (project != null && findByName(f[1]) == null) {
+                    project.setName(f[1]);
+                    reindex(project, f[0]);
+                }
+            }
+            case "TA" -> {
+                Project project = findByName(f[0]);
+                if (project == null) {
+                    project = new Project(f[0]);
+                    addProject(project);
+                }
+                if (findTask(project, f, 4) == null) {
+                    int id = (f.length > 4) ? Integer.parseInt(f[4]) : 0;
+                    ProjectTask task = new ProjectTask(id, LocalDate.parse(f[1]), f[2]);
+                    task.setCompleted(Boolean.parseBoolean(f[3]));
+                    project.addTask(task);
+                }
+            }
+            case "TD" -> {
+                Project project = findByName(f[0]);
+                ProjectTask task = (project == null) ? null : findTask(project, f, 3);
+                if (task != null) project.removeTask(task);
+            }
+            case "TE" -> {
+                Project project = findByName(f[0]);
+                ProjectTask task = (project == null) ? null : findTask(project, f, 5);
+                if (task != null) task.edit(LocalDate.parse(f[3]), f[4]);
+            }
+            case "TC" -> {
+                Project project = findByName(f[0]);
+                ProjectTask task = (project == null) ? null : findTask(project, f, 4);
+                if (task != null) task.setCompleted(Boolean.parseBoolean(f[3]));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 변경 기록 종류: " + type);
+        }
+        markChanged(target != null ? target : findByName(f[0]), type);
+    }
+
+    /**
+     * 기록의 할일 찾기: ID 항목이 있으면 ID로, 없으면(이전 기록) 날짜와 내용으로
+     * @param idField ID가 기록된 항목 번호 (날짜/내용은 항상 f[1], f[2])
+     */
+    private ProjectTask findTask(Project project, String[] f, int idField) {
+        if (f.length > idField) return project.findTask(Integer.parseInt(f[idField]));
+        for (ProjectTask task : project.getTasksOn(LocalDate.parse(f[1]))) {
+            if (task.getContent().equals(f[2])) return task;
+        }
+        return null;
     }
 
     /**
      * 프로젝트 목록 저장 (할일이 없어도 저장됨)
+     * @return 기록한 양, 실패하면 null
      */
-    private void saveProjectList() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(PROJECT_LIST_FILE))) {
+    private SaveReport saveProjectList(ProjectSnapshot snapshot) {
+        try (GroupCommit.TextWriter bw = commits.newTextWriter(PROJECT_LIST_FILE)) {
             bw.write("# 프로젝트 목록");
             bw.newLine();
             bw.write("# 각 줄에 프로젝트 이름 하나씩");
@@ -170,71 +703,97 @@ public class ProjectManager {
             bw.write("# ---------------------------------------------------------------");
             bw.newLine();
 
-            for (Project project : projects) {
-                bw.write(project.getName());
+            for (String name : snapshot.names) {
+                bw.write(name);
                 bw.newLine();
             }
 
-            System.out.println("프로젝트 목록 " + projects.size() + "개 저장 완료");
+            long bytes = bw.commit();
+            System.out.println("프로젝트 목록 " + snapshot.names.size() + "개 저장 완료");
+            return new SaveReport(snapshot.names.size(), bytes, 1);
         } catch (IOException e) {
             System.err.println("프로젝트 목록 저장 중 오류: " + e.getMessage());
+            recordWriteError("프로젝트 목록 저장 중 오류: " + e.getMessage());
+            return null;
         }
     }
 
     /**
-     * 프로젝트 할일 저장
+     * 프로젝트 할일 저장 (현재 형식: 프로젝트명 사전 + epochDay, ProjectTaskFileParser 참고)
+     * @return 기록한 양, 실패하면 null
      */
-    private void saveProjectTasks() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(DATA_FILE))) {
+    private SaveReport saveProjectTasks(ProjectSnapshot snapshot) {
+        try (GroupCommit.TextWriter bw = commits.newTextWriter(DATA_FILE)) {
             int saveCount = 0;
 
+            bw.write(ProjectTaskFileParser.MAGIC + " " + ProjectTaskFileParser.VERSION);
+            bw.newLine();
             bw.write("# 프로젝트 할일 데이터 파일");
             bw.newLine();
-            bw.write("# 형식: [프로젝트명]|[날짜(YYYY-MM-DD)]|[내용]|[완료 여부(true/false)]");
+            bw.write("# 사전: P|[번호]|[프로젝트명]");
+            bw.newLine();
+            bw.write("# 할일: [프로젝트 번호]|[날짜(epochDay)]|[완료 여부(0/1)]|[할일 ID]|[내용]");
             bw.newLine();
             bw.write("# ----------------------------------------------------------------------");
             bw.newLine();
 
-            for (Project project : projects) {
-                // 프로젝트의 모든 Task를 순회하며 저장
-                for (ProjectTask task : project.getTasks()) {
-                    String line = String.format("%s|%s|%s|%b",
-                            project.getName(),
-                            task.getDate().toString(),
-                            task.getContent().replace('|', ' '), // | 문자 제거
-                            task.isCompleted());
-                    bw.write(line);
-                    bw.newLine();
-                    saveCount++;
-                }
+            // 프로젝트명 사전: 할일이 있는 프로젝트만, 처음 나오는 할일보다 앞에 기록
+            Map<String, Integer> dictionary = new HashMap<>();
+            for (String projectName : snapshot.taskProjects) {
+                if (dictionary.containsKey(projectName)) continue;
+                int index = dictionary.size();
+                dictionary.put(projectName, index);
+                bw.write("P|" + index + "|" + singleLine(projectName));
+                bw.newLine();
             }
+
+            // 복사해 둔 모든 Task를 순회하며 저장 (내용은 줄 끝까지이므로 | 도 그대로 보존)
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < snapshot.tasks.size(); i++) {
+                ProjectTask task = snapshot.tasks.get(i);
+                line.setLength(0);
+                line.append(dictionary.get(snapshot.taskProjects.get(i))).append('|')
+                        .append(task.getDate().toEpochDay()).append('|')
+                        .append(task.isCompleted() ? '1' : '0').append('|')
+                        .append(task.getId()).append('|')
+                        .append(singleLine(task.getContent()));
+                bw.write(line.toString());
+                bw.newLine();
+                saveCount++;
+            }
+            long bytes = bw.commit();
             System.out.println("프로젝트 할일 " + saveCount + "개 저장 완료");
+            return new SaveReport(saveCount, bytes, 1);
         } catch (IOException e) {
             System.err.println("프로젝트 할일 저장 중 오류: " + e.getMessage());
+            recordWriteError("프로젝트 할일 저장 중 오류: " + e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * 한 줄에 기록할 수 있도록 줄바꿈 문자를 공백으로 바꿈
+     */
+    private static String singleLine(String s) {
+        return s.replace('\r', ' ').replace('\n', ' ');
+    }
+
     // ===== 통계 메서드 =====
 
     /**
-     * 전체 프로젝트의 평균 진척도
+     * 전체 프로젝트의 평균 진척도 (집계 값)
      */
     public int getAverageProgress() {
         if (projects.isEmpty()) {
             return 0;
         }
-        int sum = projects.stream()
-                .mapToInt(Project::getProgress)
-                .sum();
-        return sum / projects.size();
+        return (int) (progressSum / projects.size());
     }
 
     /**
-     * 완료된 프로젝트 개수 (진척도 100%)
+     * 완료된 프로젝트 개수 (진척도 100%, 집계 값)
      */
     public long countCompletedProjects() {
-        return projects.stream()
-                .filter(p -> p.getProgress() == 100)
-                .count();
+        return completedProjects;
     }
 }
\ No newline at end of file
@@ -1,16 +1,40 @@
 import java.time.LocalDate;
-import java.util.Objects;
 
 /**
  * 프로젝트 할일 도메인 모델 (Single Responsibility Principle)
  * 할일의 날짜, 내용, 완료 상태만 관리
+ *
+ * ID는 프로젝트 안에서 유일한 작은 정수로, 프로젝트에 추가할 때 정해지고 파일에 함께 저장된다.
+ * 같은 날짜에 같은 내용의 할일이 여럿 있어도 ID(객체)로 구분한다.
  */
 public class ProjectTask {
+    private int id; // 0이면 아직 프로젝트에 추가되지 않음
     private LocalDate date;
     private String content;
     private boolean completed;
 
+    // 변경 통지 대상 (소속 Project가 등록)
+    private ChangeListener changeListener;
+
+    /**
+     * 할일 변경 리스너
+     */
+    interface ChangeListener {
+        void onEdited(ProjectTask task, LocalDate oldDate, String oldContent);
+        void onCompletionChanged(ProjectTask task);
+    }
+
     public ProjectTask(LocalDate date, String content) {
+        this(0, date, content);
+    }
+
+    /**
+     * 저장된 ID로 생성 (파일/변경 기록에서 읽을 때, 프로젝트에 이미 있는 ID면 새로 정해짐)
+     */
+    public ProjectTask(int id, LocalDate date, String content) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID는 음수일 수 없습니다.");
+        }
         if (date == null) {
             throw new IllegalArgumentException("날짜는 null일 수 없습니다.");
         }
@@ -18,6 +42,7 @@ public class ProjectTask {
             throw new IllegalArgumentException("내용은 비어있을 수 없습니다.");
         }
 
+        this.id = id;
         this.date = date;
         this.content = content;
         this.completed = false;
@@ -25,6 +50,12 @@ public class ProjectTask {
 
     // ===== Getters and Setters =====
 
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) { this.id = id; }
+
     public LocalDate getDate() {
         return date;
     }
@@ -33,7 +64,11 @@ public class ProjectTask {
         if (date == null) {
             throw new IllegalArgumentException("날짜는 null일 수 없습니다.");
         }
+        LocalDate oldDate = this.date;
         this.date = date;
+        if (!oldDate.equals(date) && changeListener != null) {
+            changeListener.onEdited(this, oldDate, content);
+        }
     }
 
     public String getContent() {
@@ -44,7 +79,30 @@ public class ProjectTask {
         if (content == null || content.trim().isEmpty()) {
             throw new IllegalArgumentException("내용은 비어있을 수 없습니다.");
         }
+        String oldContent = this.content;
+        this.content = content;
+        if (!oldContent.equals(content) && changeListener != null) {
+            changeListener.onEdited(this, date, oldContent);
+        }
+    }
+
+    /**
+     * 날짜와 내용을 한 번에 수정 (변경 통지도 한 번)
+     */
+    public void edit(LocalDate date, String content) {
+        if (date == null) {
+            throw new IllegalArgumentException("날짜는 null일 수 없습니다.");
+        }
+        if (content == null || content.trim().isEmpty()) {
+            throw new IllegalArgumentException("내용은 비어있을 수 없습니다.");
+        }
+        LocalDate oldDate = this.date;
+        String oldContent = this.content;
+        this.date = date;
         this.content = content;
+        if ((!oldDate.equals(date) || !oldContent.equals(content)) && changeListener != null) {
+            changeListener.onEdited(this, oldDate, oldContent);
+        }
     }
 
     public boolean isCompleted() {
@@ -52,16 +110,22 @@ public class ProjectTask {
     }
 
     public void setCompleted(boolean completed) {
+        boolean changed = this.completed != completed;
         this.completed = completed;
+        if (changed && changeListener != null) {
+            changeListener.onCompletionChanged(this);
+        }
     }
 
     /**
      * 할일 완료 토글
      */
     public void toggleCompleted() {
-        this.completed = !this.completed;
+        setCompleted(!this.completed);
     }
 
+    void setChangeListener(ChangeListener listener) { this.changeListener = listener; }
+
     // ===== 비즈니스 로직 =====
 
     /**
@@ -96,17 +160,4 @@ public class ProjectTask {
     public String toString() {
         return content;
     }
-
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-        ProjectTask that = (ProjectTask) obj;
-        return date.equals(that.date) && content.equals(that.content);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(date, content);
-    }
 }
\ No newline at end of file
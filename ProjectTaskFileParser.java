@@ -0,0 +1,418 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * project_schedules.txt 스트리밍 파서 (Single Responsibility Principle)
+ *
+ * 버전 2 형식 (첫 줄 "#PROJECT-TASKS 2"):
+ *   P|번호|프로젝트명                 : 프로젝트명 사전 (그 번호를 쓰는 할일 줄보다 앞에 옴)
+ *   번호|epochDay|완료(0/1)|할일 ID|내용 : 할일 (내용은 줄 끝까지이므로 | 를 포함할 수 있음)
+ * 이전 형식 (버전 줄 없음):
+ *   프로젝트명|yyyy-MM-dd|내용|true/false[|할일 ID]
+ *   프로젝트명이 '#'로 시작할 수 있으므로 '#' 줄도 할일로 해석해 보고,
+ *   해석되지 않는 줄은 첫 할일 앞의 머리말 주석일 때만 건너뜀
+ *
+ * ScheduleFileParser와 같이 char 버퍼에서 필드 경계만 찾아 바로 해석하며,
+ * 프로젝트명은 사전(이전 형식은 같은 이름 공유)으로, 날짜는 epochDay별로 한 번만 만든다.
+ * 잘못된 줄은 리스너로 알리고 다음 줄부터 계속 읽는다.
+ */
+public class ProjectTaskFileParser {
+
+    /**
+     * 버전 줄 머리말과 현재 버전 (쓰기도 이 값을 사용)
+     */
+    public static final String MAGIC = "#PROJECT-TASKS";
+    public static final int VERSION = 2;
+
+    /**
+     * 이전 형식 파일의 버전
+     */
+    public static final int LEGACY_VERSION = 1;
+
+    /**
+     * 할일 한 건 수신
+     */
+    public interface TaskConsumer {
+        void accept(String projectName, ProjectTask task);
+    }
+
+    /**
+     * 잘못된 줄의 종류
+     */
+    public enum Problem {
+        FIELD_COUNT,    // 필드 개수가 맞지 않음
+        NUMBER,         // 숫자 필드 해석 실패
+        VALUE,          // 날짜/내용이 올바르지 않음
+        PROJECT         // 사전에 없는 프로젝트 번호
+    }
+
+    /**
+     * 잘못된 줄 알림 리스너
+     */
+    public interface ErrorListener {
+        void onMalformedLine(int lineNumber, String line, Problem problem);
+    }
+
+    private static final int MAX_FIELDS = 5;
+
+    // 재사용 파싱 상태
+    private final char[] readBuf = new char[64 * 1024];
+    private char[] line = new char[256];
+    private int lineLength;
+    private final int[] fieldStart = new int[MAX_FIELDS];
+    private final int[] fieldEnd = new int[MAX_FIELDS];
+    private boolean numberError;
+
+    private int version;
+    private boolean dataSeen; // 이전 형식에서 머리말 주석 뒤의 줄을 읽었는지
+    private final List<String> projectNames = new ArrayList<>();   // 버전 2 사전
+    private final Map<String, String> sharedNames = new HashMap<>(); // 이전 형식의 같은 이름 공유
+    private final Map<Integer, LocalDate> dates = new HashMap<>();
+
+    /**
+     * Reader 전체를 읽어 할일마다 consumer 호출
+     * @return 정상적으로 읽은 할일 개수
+     * @throws IOException 읽기 오류 또는 지원하지 않는 버전
+     */
+    public int parse(Reader reader, TaskConsumer consumer, ErrorListener errors) throws IOException {
+        int count = 0;
+        int lineNumber = 0;
+        boolean pendingCr = false;
+        lineLength = 0;
+        version = LEGACY_VERSION;
+        dataSeen = false;
+        projectNames.clear();
+        sharedNames.clear();
+
+        int n;
+        while ((n = reader.read(readBuf, 0, readBuf.length)) != -1) {
+            for (int i = 0; i < n; i++) {
+                char ch = readBuf[i];
+                if (ch == '\n' && pendingCr) {      // \r\n의 \n은 이미 처리됨
+                    pendingCr = false;
+                    continue;
+                }
+                pendingCr = (ch == '\r');
+                if (ch == '\n' || ch == '\r') {
+                    lineNumber++;
+                    if (parseLine(lineNumber, consumer, errors)) count++;
+                    lineLength = 0;
+                } else {
+                    if (lineLength == line.length) {
+                        char[] grown = new char[line.length * 2];
+                        System.arraycopy(line, 0, grown, 0, lineLength);
+                        line = grown;
+                    }
+                    line[lineLength++] = ch;
+                }
+            }
+        }
+        if (lineLength > 0) {
+            lineNumber++;
+            if (parseLine(lineNumber, consumer, errors)) count++;
+            lineLength = 0;
+        }
+        return count;
+    }
+
+    /**
+     * 마지막으로 읽은 파일의 형식 버전 (이전 형식이면 LEGACY_VERSION)
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * 현재 줄 버퍼 해석
+     * @return 할일을 만들었으면 true
+     */
+    private boolean parseLine(int lineNumber, TaskConsumer consumer, ErrorListener errors) throws IOException {
+        char[] c = line;
+        int len = lineLength;
+
+        if (len == 0) return false;
+        if (c[0] == '#') {
+            if (lineNumber == 1) readVersion();
+            return version < 2 && parseLegacyCommentLine(lineNumber, consumer, errors, len);
+        }
+        int first = 0;
+        while (first < len && c[first] <= ' ') first++;
+        if (first == len) return false;
+        dataSeen = true;
+
+        try {
+            return version >= 2 ? parseLine(lineNumber, consumer, errors, len)
+                    : parseLegacyLine(lineNumber, consumer, errors, len);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            // 범위를 벗어난 날짜, 빈 내용, 음수 ID
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.VALUE);
+            return false;
+        }
+    }
+
+    /**
+     * 첫 줄의 "#PROJECT-TASKS 버전" 확인 (다른 주석이면 이전 형식)
+     */
+    private void readVersion() throws IOException {
+        int m = MAGIC.length();
+        if (lineLength <= m || !new String(line, 0, m).equals(MAGIC) || line[m] != ' ') return;
+
+        fieldStart[0] = m + 1;
+        fieldEnd[0] = lineLength;
+        numberError = false;
+        int v = parseInt(0);
+        if (numberError || v < 2) {
+            throw new IOException("프로젝트 할일 파일의 버전 줄이 올바르지 않습니다: " + new String(line, 0, lineLength));
+        }
+        if (v > VERSION) {
+            throw new IOException("지원하지 않는 프로젝트 할일 파일 버전입니다: " + v);
+        }
+        version = v;
+    }
+
+    /**
+     * 버전 2: 사전 줄 또는 할일 줄
+     */
+    private boolean parseLine(int lineNumber, TaskConsumer consumer, ErrorListener errors, int len) {
+        char[] c = line;
+
+        if (c[0] == 'P' && len > 1 && c[1] == '|') {
+            // P|번호|프로젝트명
+            int bar = indexOf('|', 2, len);
+            if (bar < 0) {
+                errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.FIELD_COUNT);
+                return false;
+            }
+            fieldStart[0] = 2;
+            fieldEnd[0] = bar;
+            numberError = false;
+            int index = parseInt(0);
+            if (numberError || index < 0) {
+                errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.NUMBER);
+                return false;
+            }
+            while (projectNames.size() <= index) projectNames.add(null);
+            projectNames.set(index, new String(c, bar + 1, len - bar - 1));
+            return false;
+        }
+
+        // 번호|epochDay|완료|ID|내용 (내용은 나머지 전체)
+        int start = 0;
+        for (int f = 0; f < 4; f++) {
+            int bar = indexOf('|', start, len);
+            if (bar < 0) {
+                errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.FIELD_COUNT);
+                return false;
+            }
+            fieldStart[f] = start;
+            fieldEnd[f] = bar;
+            start = bar + 1;
+        }
+
+        numberError = false;
+        int projectIndex = parseInt(0);
+        int epochDay = parseInt(1);
+        int completed = parseInt(2);
+        int id = parseInt(3);
+        if (numberError) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.NUMBER);
+            return false;
+        }
+        String projectName = (projectIndex >= 0 && projectIndex < projectNames.size())
+                ? projectNames.get(projectIndex) : null;
+        if (projectName == null) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.PROJECT);
+            return false;
+        }
+
+        ProjectTask task = new ProjectTask(id, dateOf(epochDay), new String(c, start, len - start));
+        task.setCompleted(completed != 0);
+        consumer.accept(projectName, task);
+        return true;
+    }
+
+    /**
+     * 이전 형식의 '#'로 시작하는 줄: 할일로 해석되면 '#'로 시작하는 프로젝트의 할일
+     * 아니면 첫 할일 앞의 머리말 주석(이전 버전이 쓴 설명)만 건너뛰고, 그 뒤의 줄은 잘못된 줄로 알림
+     */
+    private boolean parseLegacyCommentLine(int lineNumber, TaskConsumer consumer, ErrorListener errors, int len) {
+        Problem[] problem = {Problem.VALUE};
+        try {
+            if (parseLegacyLine(lineNumber, consumer, (n, text, p) -> problem[0] = p, len)) {
+                dataSeen = true;
+                return true;
+            }
+        } catch (DateTimeException | IllegalArgumentException e) {
+            // 범위를 벗어난 날짜, 빈 내용, 음수 ID
+        }
+        if (dataSeen) errors.onMalformedLine(lineNumber, new String(line, 0, len), problem[0]);
+        return false;
+    }
+
+    /**
+     * 이전 형식: 프로젝트명|yyyy-MM-dd|내용|true/false[|할일 ID] (각 필드 앞뒤 공백 제거)
+     */
+    private boolean parseLegacyLine(int lineNumber, TaskConsumer consumer, ErrorListener errors, int len) {
+        char[] c = line;
+
+        int fields = 0;
+        int start = 0;
+        for (int i = 0; i <= len; i++) {
+            if (i == len || c[i] == '|') {
+                if (fields < MAX_FIELDS) {
+                    fieldStart[fields] = start;
+                    fieldEnd[fields] = i;
+                }
+                fields++;
+                start = i + 1;
+            }
+        }
+        if (fields != 4 && fields != 5) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.FIELD_COUNT);
+            return false;
+        }
+
+        numberError = false;
+        LocalDate date = parseDate(1);
+        int id = (fields == 5) ? parseInt(4) : 0;
+        if (numberError) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.NUMBER);
+            return false;
+        }
+
+        String projectName = sharedNames.computeIfAbsent(trimmedString(0), k -> k);
+        ProjectTask task = new ProjectTask(id, date, trimmedString(2));
+        task.setCompleted(isTrue(3));
+        consumer.accept(projectName, task);
+        return true;
+    }
+
+    private int indexOf(char ch, int from, int len) {
+        for (int i = from; i < len; i++) {
+            if (line[i] == ch) return i;
+        }
+        return -1;
+    }
+
+    private LocalDate dateOf(int epochDay) {
+        LocalDate date = dates.get(epochDay);
+        if (date == null) {
+            date = LocalDate.ofEpochDay(epochDay);
+            dates.put(epochDay, date);
+        }
+        return date;
+    }
+
+    /**
+     * yyyy-MM-dd 해석 (LocalDate.parse와 같이 네 자리 연도와 두 자리 월/일만 허용, 실패 시 numberError 설정)
+     */
+    private LocalDate parseDate(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        if (e - s != 10 || line[s + 4] != '-' || line[s + 7] != '-') {
+            numberError = true;
+            return null;
+        }
+        int year = digits(s, s + 4);
+        int month = digits(s + 5, s + 7);
+        int day = digits(s + 8, s + 10);
+        if (year < 0 || month < 0 || day < 0) {
+            numberError = true;
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * 숫자만으로 된 구간을 정수로 변환 (숫자가 아닌 문자가 있으면 -1)
+     */
+    private int digits(int s, int e) {
+        int value = 0;
+        for (int i = s; i < e; i++) {
+            char ch = line[i];
+            if (ch < '0' || ch > '9') return -1;
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 필드를 공백 제거 후 정수로 변환 (Integer.parseInt와 같은 규칙, 실패 시 numberError 설정)
+     */
+    private int parseInt(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        if (s == e) {
+            numberError = true;
+            return 0;
+        }
+
+        boolean negative = false;
+        char sign = line[s];
+        if (sign == '-' || sign == '+') {
+            negative = (sign == '-');
+            if (++s == e) {
+                numberError = true;
+                return 0;
+            }
+        }
+
+        long value = 0;
+        for (int i = s; i < e; i++) {
+            int digit = Character.digit(line[i], 10);
+            if (digit < 0) {
+                numberError = true;
+                return 0;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                numberError = true;
+                return 0;
+            }
+        }
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+            numberError = true;
+            return 0;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Boolean.parseBoolean(trim())과 같은 판정
+     */
+    private boolean isTrue(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        if (e - s != 4) return false;
+        return (line[s] == 't' || line[s] == 'T')
+                && (line[s + 1] == 'r' || line[s + 1] == 'R')
+                && (line[s + 2] == 'u' || line[s + 2] == 'U')
+                && (line[s + 3] == 'e' || line[s + 3] == 'E');
+    }
+
+    private String trimmedString(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        return new String(line, s, e - s);
+    }
+
+    private int trimStart(int field) {
+        int s = fieldStart[field];
+        int e = fieldEnd[field];
+        while (s < e && line[s] <= ' ') s++;
+        return s;
+    }
+
+    private int trimEnd(int field, int trimmedStart) {
+        int e = fieldEnd[field];
+        while (e > trimmedStart && line[e - 1] <= ' ') e--;
+        return e;
+    }
+}
\ No newline at end of file
@@ -57,9 +57,8 @@ public class ProjectTaskFormDialog extends JDialog {
                     return;
                 }
             } else {
-                // 수정
-                target.setDate(newDate);
-                target.setContent(content);
+                // 수정 (날짜와 내용을 한 번에)
+                project.editTask(target.getId(), newDate, content);
             }
             onComplete.run();
             dispose();
@@ -73,7 +72,7 @@ public class ProjectTaskFormDialog extends JDialog {
             JButton delete = ScheduleSwingDesign.JimageButton("/image/schedule_delete_button.png");
             delete.addActionListener(e -> {
                 if (JOptionPane.showConfirmDialog(this, "삭제하시겠습니까?", "확인", JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
-                    project.removeTask(target);
+                    project.removeTask(target.getId());
                     onComplete.run();
                     dispose();
                 }
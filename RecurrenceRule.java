@@ -0,0 +1,394 @@
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 반복 규칙 (RRULE 형식의 부분 집합)
+ * - FREQ=WEEKLY: INTERVAL주마다 BYDAY 요일들 (예: 격주 월·수)
+ * - FREQ=MONTHLY: INTERVAL개월마다 n번째 요일 (예: 2TU = 둘째 화요일, -1FR = 마지막 금요일)
+ * - UNTIL(마지막 날짜), COUNT(발생 횟수), EXDATE(제외 날짜)
+ *
+ * 생성 시 요일 비트마스크와 epochDay 기준값으로 컴파일되어
+ * matches()는 객체 생성 없이 정수 연산만으로 판정한다.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { WEEKLY, MONTHLY }
+
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    private static final String[] DAY_LABELS = {"월", "화", "수", "목", "금", "토", "일"};
+
+    private final Frequency frequency;
+    private final int interval;
+    private final int weekdayMask;      // bit0 = 월요일 ... bit6 = 일요일
+    private final int ordinal;          // MONTHLY: 1~5번째, -1 = 마지막 / WEEKLY: 0
+    private final LocalDate baseDate;
+    private final LocalDate until;      // null이면 기한 없음
+    private final int count;            // 0이면 횟수 제한 없음
+    private final long[] exdates;       // 제외 날짜 epochDay (정렬됨)
+
+    // 컴파일된 기준값
+    private final long startEpochDay;   // baseDate
+    private final long anchorMonday;    // baseDate가 속한 주의 월요일
+    private final int anchorMonth;      // baseDate의 year * 12 + (month - 1)
+    private final long endEpochDay;     // UNTIL과 COUNT 중 먼저 끝나는 날 (없으면 Long.MAX_VALUE)
+
+    public RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> days, int ordinal,
+                          LocalDate baseDate, LocalDate until, int count, Collection<LocalDate> exdates) {
+        if (frequency == null || baseDate == null) {
+            throw new IllegalArgumentException("반복 주기와 기준일은 null일 수 없습니다.");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("반복 간격은 1 이상이어야 합니다.");
+        }
+        if (days == null || days.isEmpty()) {
+            throw new IllegalArgumentException("최소 한 개의 요일이 필요합니다.");
+        }
+        if (frequency == Frequency.MONTHLY && (ordinal == 0 || ordinal < -1 || ordinal > 5)) {
+            throw new IllegalArgumentException("월 반복은 1~5번째 또는 마지막(-1) 요일만 지정할 수 있습니다.");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("반복 횟수는 0 이상이어야 합니다.");
+        }
+
+        int mask = 0;
+        for (DayOfWeek d : days) mask |= 1 << (d.getValue() - 1);
+
+        this.frequency = frequency;
+        this.interval = interval;
+        this.weekdayMask = mask;
+        this.ordinal = (frequency == Frequency.MONTHLY) ? ordinal : 0;
+        this.baseDate = baseDate;
+        this.until = until;
+        this.count = count;
+        this.exdates = (exdates == null) ? new long[0]
+                : exdates.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+
+        this.startEpochDay = baseDate.toEpochDay();
+        this.anchorMonday = startEpochDay - (baseDate.getDayOfWeek().getValue() - 1);
+        this.anchorMonth = baseDate.getYear() * 12 + baseDate.getMonthValue() - 1;
+
+        // COUNT는 제외 날짜를 빼기 전 기준으로 센다 (RFC 5545와 동일)
+        long end = (until == null) ? Long.MAX_VALUE : until.toEpochDay();
+        if (count > 0) {
+            long d = startEpochDay - 1;
+            for (int i = 0; i < count && d != Long.MAX_VALUE; i++) {
+                d = next(d + 1, end, false);
+            }
+            end = Math.min(end, d);
+        }
+        this.endEpochDay = end;
+    }
+
+    /**
+     * 매주 한 요일 규칙 (기존 RepeatSchedule 기본 규칙)
+     */
+    public static RecurrenceRule weekly(DayOfWeek dayOfWeek, LocalDate baseDate) {
+        return new RecurrenceRule(Frequency.WEEKLY, 1, EnumSet.of(dayOfWeek), 0,
+                baseDate, null, 0, null);
+    }
+
+    // ===== 판정 / 순회 =====
+
+    /**
+     * epochDay가 규칙에 맞는지 판정 (객체 생성 없음)
+     */
+    public boolean matches(long epochDay) {
+        if (epochDay < startEpochDay || epochDay > endEpochDay) return false;
+        int dow = (int) Math.floorMod(epochDay + 3, 7L); // 1970-01-01 = 목요일(3)
+        if ((weekdayMask & (1 << dow)) == 0) return false;
+
+        if (frequency == Frequency.WEEKLY) {
+            if (interval > 1 && Math.floorDiv(epochDay - anchorMonday, 7L) % interval != 0) return false;
+        } else {
+            long ymd = civil(epochDay);
+            int monthIndex = (int) (ymd >> 5);
+            int dom = (int) (ymd & 31);
+            if ((monthIndex - anchorMonth) % interval != 0) return false;
+            if (ordinal > 0 ? (dom - 1) / 7 + 1 != ordinal
+                    : dom + 7 <= lengthOfMonth(monthIndex)) return false;
+        }
+        return !isExcluded(epochDay);
+    }
+
+    public boolean matches(LocalDate date) {
+        return matches(date.toEpochDay());
+    }
+
+    /**
+     * epochDay 이후(포함) 첫 발생일, 없으면 Long.MAX_VALUE
+     */
+    public long nextMatch(long epochDay) {
+        return next(epochDay, endEpochDay, true);
+    }
+
+    private long next(long from, long end, boolean skipExcluded) {
+        long d = Math.max(from, startEpochDay);
+        if (frequency == Frequency.WEEKLY) {
+            while (d <= end) {
+                long week = Math.floorDiv(d - anchorMonday, 7L);
+                long rem = week % interval;
+                if (rem != 0) {
+                    // 쉬는 주는 다음 활성 주의 월요일로 바로 이동
+                    d = anchorMonday + (week + interval - rem) * 7;
+                    continue;
+                }
+                int dow = (int) (d - (anchorMonday + week * 7));
+                int bits = weekdayMask & (0x7F << dow);
+                if (bits == 0) {
+                    d = anchorMonday + (week + interval) * 7;
+                    continue;
+                }
+                long candidate = d - dow + Integer.numberOfTrailingZeros(bits);
+                if (candidate > end) break;
+                if (skipExcluded && isExcluded(candidate)) {
+                    d = candidate + 1;
+                    continue;
+                }
+                return candidate;
+            }
+            return Long.MAX_VALUE;
+        }
+
+        // MONTHLY: 활성 월마다 지정 요일의 n번째 날짜 후보 중 가장 이른 날
+        long ymd = civil(d);
+        int monthIndex = (int) (ymd >> 5);
+        int rem = (monthIndex - anchorMonth) % interval;
+        if (rem != 0) monthIndex += interval - rem;
+        for (int guard = 0; guard < 1200; guard++, monthIndex += interval) {
+            LocalDate first = LocalDate.of(monthIndex / 12, monthIndex % 12 + 1, 1);
+            if (first.toEpochDay() > end) break;
+            long best = Long.MAX_VALUE;
+            for (int dow = 0; dow < 7; dow++) {
+                if ((weekdayMask & (1 << dow)) == 0) continue;
+                long candidate = nthWeekdayOfMonth(first, dow);
+                if (candidate >= d && candidate <= end && candidate < best
+                        && !(skipExcluded && isExcluded(candidate))) {
+                    best = candidate;
+                }
+            }
+            if (best != Long.MAX_VALUE) return best;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * 해당 월의 ordinal번째 dow(0 = 월요일) 날짜, 그 달에 없으면 Long.MAX_VALUE
+     */
+    private long nthWeekdayOfMonth(LocalDate firstOfMonth, int dow) {
+        long first = firstOfMonth.toEpochDay();
+        long firstDow = first + Math.floorMod(dow - (firstOfMonth.getDayOfWeek().getValue() - 1), 7);
+        int length = firstOfMonth.lengthOfMonth();
+        if (ordinal == -1) {
+            return firstDow + ((length - 1 - (firstDow - first)) / 7) * 7;
+        }
+        long candidate = firstDow + (ordinal - 1) * 7L;
+        return (candidate - first < length) ? candidate : Long.MAX_VALUE;
+    }
+
+    private boolean isExcluded(long epochDay) {
+        return exdates.length > 0 && Arrays.binarySearch(exdates, epochDay) >= 0;
+    }
+
+    /**
+     * epochDay -> (year * 12 + month - 1) << 5 | dayOfMonth (객체 생성 없는 날짜 변환)
+     */
+    private static long civil(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long dom = doy - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        return ((year * 12 + month - 1) << 5) | dom;
+    }
+
+    private static int lengthOfMonth(int monthIndex) {
+        int year = Math.floorDiv(monthIndex, 12);
+        int month = Math.floorMod(monthIndex, 12) + 1;
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // ===== Getters =====
+
+    public Frequency getFrequency() { return frequency; }
+    public int getInterval() { return interval; }
+    public int getOrdinal() { return ordinal; }
+    public LocalDate getBaseDate() { return baseDate; }
+    public LocalDate getUntil() { return until; }
+    public int getCount() { return count; }
+
+    public Set<DayOfWeek> getDays() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (int i = 0; i < 7; i++) {
+            if ((weekdayMask & (1 << i)) != 0) days.add(DayOfWeek.of(i + 1));
+        }
+        return days;
+    }
+
+    /**
+     * 대표 요일 (가장 이른 요일)
+     */
+    public DayOfWeek getPrimaryDay() {
+        return DayOfWeek.of(Integer.numberOfTrailingZeros(weekdayMask) + 1);
+    }
+
+    public boolean includes(DayOfWeek day) {
+        return (weekdayMask & (1 << (day.getValue() - 1))) != 0;
+    }
+
+    /**
+     * 한 요일만 바꾼 규칙 (간격, 다른 요일, 월 n번째, 종료일/횟수, 제외일은 그대로 유지)
+     */
+    public RecurrenceRule withDayReplaced(DayOfWeek from, DayOfWeek to) {
+        Set<DayOfWeek> days = getDays();
+        days.remove(from);
+        days.add(to);
+        List<LocalDate> excluded = new ArrayList<>();
+        for (long d : exdates) excluded.add(LocalDate.ofEpochDay(d));
+        return new RecurrenceRule(frequency, interval, days, ordinal, baseDate, until, count, excluded);
+    }
+
+    /**
+     * 매주 한 요일, 제한 없는 기본 규칙인지 확인
+     */
+    public boolean isSimpleWeekly() {
+        return frequency == Frequency.WEEKLY && interval == 1 && Integer.bitCount(weekdayMask) == 1
+                && until == null && count == 0 && exdates.length == 0;
+    }
+
+    /**
+     * 화면 표시용 설명 (예: "격주 월·수", "매월 마지막 금")
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        if (frequency == Frequency.WEEKLY) {
+            sb.append(interval == 1 ? "매주 " : interval == 2 ? "격주 " : interval + "주마다 ");
+        } else {
+            sb.append(interval == 1 ? "매월 " : interval + "개월마다 ");
+            sb.append(ordinal == -1 ? "마지막 " : ordinal + "번째 ");
+        }
+        boolean first = true;
+        for (int i = 0; i < 7; i++) {
+            if ((weekdayMask & (1 << i)) == 0) continue;
+            if (!first) sb.append('·');
+            sb.append(DAY_LABELS[i]);
+            first = false;
+        }
+        if (until != null) sb.append(" (~").append(until).append(')');
+        if (count > 0) sb.append(" (").append(count).append("회)");
+        return sb.toString();
+    }
+
+    // ===== 문자열 변환 =====
+
+    /**
+     * RRULE 형식 문자열 (예: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;EXDATE=2026-10-12)
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval != 1) sb.append(";INTERVAL=").append(interval);
+        sb.append(";BYDAY=");
+        boolean first = true;
+        for (int i = 0; i < 7; i++) {
+            if ((weekdayMask & (1 << i)) == 0) continue;
+            if (!first) sb.append(',');
+            if (ordinal != 0) sb.append(ordinal);
+            sb.append(DAY_CODES[i]);
+            first = false;
+        }
+        if (until != null) sb.append(";UNTIL=").append(until);
+        if (count > 0) sb.append(";COUNT=").append(count);
+        if (exdates.length > 0) {
+            sb.append(";EXDATE=");
+            for (int i = 0; i < exdates.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(LocalDate.ofEpochDay(exdates[i]));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * RRULE 형식 문자열 파싱
+     * @param baseDate 규칙의 시작일 (파일의 baseDate 필드)
+     */
+    public static RecurrenceRule parse(String text, LocalDate baseDate) {
+        Frequency frequency = Frequency.WEEKLY;
+        int interval = 1;
+        int ordinal = 0;
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        LocalDate until = null;
+        int count = 0;
+        Set<LocalDate> exdates = new TreeSet<>();
+
+        for (String part : text.trim().split(";")) {
+            if (part.isEmpty()) continue;
+            int eq = part.indexOf('=');
+            if (eq < 0) throw new IllegalArgumentException("잘못된 반복 규칙: " + part);
+            String key = part.substring(0, eq).trim().toUpperCase();
+            String value = part.substring(eq + 1).trim();
+
+            switch (key) {
+                case "FREQ":
+                    frequency = Frequency.valueOf(value.toUpperCase());
+                    break;
+                case "INTERVAL":
+                    interval = Integer.parseInt(value);
+                    break;
+                case "BYDAY":
+                    // 규칙 하나에는 순번이 하나뿐이므로 요일마다 순번이 다르면 (예: 1MO,-1FR) 거부
+                    boolean first = true;
+                    for (String code : value.split(",")) {
+                        code = code.trim().toUpperCase();
+                        if (code.length() < 2) throw new IllegalArgumentException("잘못된 요일: " + code);
+                        String dayCode = code.substring(code.length() - 2);
+                        int codeOrdinal = (code.length() > 2) ? Integer.parseInt(code.substring(0, code.length() - 2)) : 0;
+                        if (first) {
+                            ordinal = codeOrdinal;
+                            first = false;
+                        } else if (codeOrdinal != ordinal) {
+                            throw new IllegalArgumentException("요일마다 다른 순번은 지원하지 않습니다: " + value);
+                        }
+                        int idx = Arrays.asList(DAY_CODES).indexOf(dayCode);
+                        if (idx < 0) throw new IllegalArgumentException("잘못된 요일: " + code);
+                        days.add(DayOfWeek.of(idx + 1));
+                    }
+                    break;
+                case "UNTIL":
+                    until = LocalDate.parse(value);
+                    break;
+                case "COUNT":
+                    count = Integer.parseInt(value);
+                    break;
+                case "EXDATE":
+                    for (String d : value.split(",")) {
+                        if (!d.trim().isEmpty()) exdates.add(LocalDate.parse(d.trim()));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목: " + key);
+            }
+        }
+        if (days.isEmpty()) days.add(baseDate.getDayOfWeek());
+        return new RecurrenceRule(frequency, interval, days, ordinal, baseDate, until, count, exdates);
+    }
+}
@@ -2,7 +2,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.time.*;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 반복 일정 작성 다이얼로그 (Single Responsibility Principle)
@@ -12,6 +16,7 @@ public class RepeatEditorDialog extends JDialog {
 
     private JTextField titleField;
     private JComboBox<DayOfWeek> dayCombo;
+    private JComboBox<String> intervalCombo;
     private JSpinner startSpinner;
     private JSpinner endSpinner;
     private DefaultListModel<String> ruleListModel = new DefaultListModel<>();
@@ -119,8 +124,14 @@ public class RepeatEditorDialog extends JDialog {
         timePanel.add(new JLabel("종료"));
         timePanel.add(endSpinner);
 
+        // 반복 간격 (모든 패턴에 공통 적용)
+        intervalCombo = new JComboBox<>(new String[]{"매주", "격주", "3주마다", "4주마다"});
+
         // 레이아웃 배치
         int r = 0;
+        gc.gridx = 0; gc.gridy = r; panel.add(new JLabel("간격"), gc);
+        gc.gridx = 1; gc.gridy = r; panel.add(intervalCombo, gc); r++;
+
         gc.gridx = 0; gc.gridy = r; panel.add(new JLabel("요일"), gc);
         gc.gridx = 1; gc.gridy = r; panel.add(dayCombo, gc); r++;
 
@@ -205,6 +216,7 @@ public class RepeatEditorDialog extends JDialog {
 
     /**
      * 저장 버튼 처리: rules 리스트를 RepeatSchedule 리스트로 변환
+     * 시간이 같은 패턴들은 여러 요일을 가진 하나의 반복 규칙으로 합침
      * Open-Closed: 새로운 스케줄 타입 추가 시 확장 가능
      */
     private void onSave() {
@@ -224,14 +236,29 @@ public class RepeatEditorDialog extends JDialog {
             return;
         }
 
+        // 같은 시작/종료 시간끼리 요일 묶기 (입력 순서 유지)
+        Map<String, List<Rule>> byTime = new LinkedHashMap<>();
+        for (Rule rule : rules) {
+            byTime.computeIfAbsent(rule.start + "-" + rule.end, k -> new ArrayList<>()).add(rule);
+        }
+
+        int interval = intervalCombo.getSelectedIndex() + 1;
         List<RepeatSchedule> out = new ArrayList<>();
 
-        for (Rule rule : rules) {
+        for (List<Rule> group : byTime.values()) {
             try {
-                // 기준일: 오늘 기준 첫 번째 해당 요일
-                LocalDate base = calculateBaseDate(rule.dow);
-
-                out.add(new RepeatSchedule(title, rule.dow, rule.start, rule.end, base));
+                Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+                LocalDate base = null;
+                for (Rule rule : group) {
+                    days.add(rule.dow);
+                    // 기준일: 오늘 기준 가장 먼저 오는 해당 요일
+                    LocalDate candidate = calculateBaseDate(rule.dow);
+                    if (base == null || candidate.isBefore(base)) base = candidate;
+                }
+
+                RecurrenceRule recurrence = new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY,
+                        interval, days, 0, base, null, 0, null);
+                out.add(new RepeatSchedule(null, title, recurrence, group.get(0).start, group.get(0).end));
             } catch (IllegalArgumentException ex) {
                 JOptionPane.showMessageDialog(this,
                         ex.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
@@ -173,7 +173,9 @@ public class RepeatFrame extends JPanel {
             JPanel row = new JPanel(new FlowLayout(FlowLayout.LEFT));
             row.setOpaque(false);
 
-            String dowLabel = r.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREA);
+            String dowLabel = r.getRule().isSimpleWeekly()
+                    ? r.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREA)
+                    : r.getRule().describe();
             String text = dowLabel + " " +
                     r.getStartTime().format(TF) + " ~ " + r.getEndTime().format(TF);
 
@@ -185,8 +187,9 @@ public class RepeatFrame extends JPanel {
 
             JButton delBtn = ScheduleSwingDesign.JimageButton("/image/repeat_delete_button.png");
             delBtn.addActionListener(e -> {
+                int children = service.getManager().countChildren(r.getId());
                 int confirm = JOptionPane.showConfirmDialog(this,
-                        "이 패턴과 관련된 일정을 삭제하시겠습니까?\n" + text,
+                        "이 패턴과 관련된 일정 " + children + "개를 삭제하시겠습니까?\n" + text,
                         "삭제 확인", JOptionPane.YES_NO_OPTION);
                 if (confirm == JOptionPane.YES_OPTION) {
                     service.getManager().removeSchedule(r);
@@ -202,15 +205,18 @@ public class RepeatFrame extends JPanel {
 
         private void applyAll() {
             YearMonth ym = service.getCurrentMonth();
-            int count = 0;
-            for (RepeatSchedule r : group) {
-                List<LocalDate> days = r.occurrencesInMonth(ym);
-                for (LocalDate d : days) {
-                    service.getManager().add(r.toConcrete(d));
-                    count++;
-                }
+            if (service.getManager().isLazyRepeatExpansion()) {
+                // 지연 전개 모드에서는 배치 없이도 모든 달에 표시됨
+                JOptionPane.showMessageDialog(this, "반복 일정이 캘린더에 자동으로 표시되고 있습니다.");
+                return;
             }
-            JOptionPane.showMessageDialog(this, ym + "에 " + count + "개의 일정이 추가되었습니다.");
+            ScheduleManager.MaterializeResult result =
+                    service.getManager().materialize(group, ym.atDay(1), ym.atEndOfMonth());
+            String message = ym + "에 " + result.getInserted() + "개의 일정이 추가되었습니다.";
+            if (result.getSkipped() > 0) {
+                message += "\n(이미 배치된 " + result.getSkipped() + "개는 제외)";
+            }
+            JOptionPane.showMessageDialog(this, message);
             owner.refreshScheduleFrame();
         }
 
@@ -299,16 +305,13 @@ public class RepeatFrame extends JPanel {
                 }
 
                 DayOfWeek newDow = (DayOfWeek) dayCombo.getSelectedItem();
-                LocalDate base = LocalDate.now();
-                while (base.getDayOfWeek() != newDow) base = base.plusDays(1);
-
-                // ✅ 기존 패턴 삭제 (파생 일정도 함께 삭제됨)
-                service.getManager().removeSchedule(oldRule);
 
-                // ✅ 새로운 패턴 추가
-                RepeatSchedule newRule = new RepeatSchedule(
-                        newTitle, newDow, newStart, newEnd, base);
-                service.getManager().add(newRule);
+                // ✅ 같은 ID로 제자리 수정 (간격/다른 요일/종료 조건/제외일과 발생 건별 변경 유지)
+                RecurrenceRule rule = (newDow == oldRule.getDayOfWeek())
+                        ? oldRule.getRule()
+                        : oldRule.getRule().withDayReplaced(oldRule.getDayOfWeek(), newDow);
+                service.getManager().updateRepeat(
+                        new RepeatSchedule(oldRule.getId(), newTitle, rule, newStart, newEnd));
 
                 dlg.dispose();
                 owner.refresh();
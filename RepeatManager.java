@@ -1,11 +1,104 @@
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 반복 일정 패턴 관리자
+ * 패턴을 요일별로 나누고 각 요일 안에서는 baseDate 순으로 정렬하여 보관
+ * (여러 요일에 반복되는 패턴은 해당 요일 버킷마다 등록)
+ * 특정 날짜 조회 시 그 요일의 패턴 중 이미 시작된 것만 확인
+ */
 public class RepeatManager {
-    private final ArrayList<RepeatSchedule> list = new ArrayList<>();
+    private final EnumMap<DayOfWeek, List<RepeatSchedule>> byDay = new EnumMap<>(DayOfWeek.class);
+    private int size = 0;
 
-    public void add(RepeatSchedule r) { list.add(r); }
-    public void remove(RepeatSchedule r) { list.remove(r); }
-    public List<RepeatSchedule> all() { return Collections.unmodifiableList(list); }
+    public RepeatManager() {
+        for (DayOfWeek d : DayOfWeek.values()) {
+            byDay.put(d, new ArrayList<>());
+        }
+    }
+
+    /**
+     * 패턴 추가 (같은 요일 안에서 baseDate 순서 유지)
+     */
+    public void add(RepeatSchedule r) {
+        for (DayOfWeek day : r.getRule().getDays()) {
+            List<RepeatSchedule> bucket = byDay.get(day);
+            int lo = 0, hi = bucket.size();
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (bucket.get(mid).getBaseDate().isAfter(r.getBaseDate())) hi = mid;
+                else lo = mid + 1;
+            }
+            bucket.add(lo, r);
+        }
+        size++;
+    }
+
+    public void remove(RepeatSchedule r) {
+        boolean removed = false;
+        for (DayOfWeek day : r.getRule().getDays()) {
+            removed |= byDay.get(day).remove(r);
+        }
+        if (removed) size--;
+    }
+
+    public void clear() {
+        for (List<RepeatSchedule> bucket : byDay.values()) bucket.clear();
+        size = 0;
+    }
+
+    public int size() { return size; }
+
+    /**
+     * 전체 패턴 (대표 요일 기준 월요일부터 요일 순, 읽기 전용)
+     */
+    public List<RepeatSchedule> all() {
+        List<RepeatSchedule> list = new ArrayList<>(size);
+        for (Map.Entry<DayOfWeek, List<RepeatSchedule>> e : byDay.entrySet()) {
+            for (RepeatSchedule r : e.getValue()) {
+                if (r.getDayOfWeek() == e.getKey()) list.add(r); // 대표 요일 버킷에서만 한 번
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 특정 요일의 패턴 (baseDate 순, 읽기 전용)
+     */
+    public List<RepeatSchedule> on(DayOfWeek dayOfWeek) {
+        return Collections.unmodifiableList(byDay.get(dayOfWeek));
+    }
+
+    /**
+     * 특정 날짜에 발생하는 패턴
+     * 해당 요일 버킷만 보고, baseDate가 날짜보다 늦은 패턴부터는 확인하지 않음
+     */
+    public List<RepeatSchedule> matchingOn(LocalDate date) {
+        List<RepeatSchedule> result = new ArrayList<>();
+        long epochDay = date.toEpochDay();
+        for (RepeatSchedule r : byDay.get(date.getDayOfWeek())) {
+            if (r.getBaseDate().isAfter(date)) break;
+            if (r.occursOn(epochDay)) result.add(r);
+        }
+        return result;
+    }
+
+    /**
+     * 날짜 범위(start, end 포함)의 발생을 날짜 순으로 전달
+     * 날짜마다 그 요일 버킷에서 이미 시작된 패턴만 확인하므로 비용은 범위에 걸리는 패턴 수에 비례
+     */
+    public void forEachOccurrence(LocalDate start, LocalDate end, RepeatSchedule.OccurrenceConsumer consumer) {
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            long epochDay = date.toEpochDay();
+            for (RepeatSchedule r : byDay.get(date.getDayOfWeek())) {
+                if (r.getBaseDate().isAfter(date)) break;
+                if (r.occursOn(epochDay)) consumer.accept(r, epochDay);
+            }
+        }
+    }
 }
@@ -1,7 +1,13 @@
 import java.time.*;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
 
 /**
  * 반복 일정 패턴 클래스 (Single Responsibility Principle)
@@ -12,26 +18,64 @@ public class RepeatSchedule extends BaseSchedule {
     private final LocalTime startTime;
     private final LocalTime endTime;
     private final LocalDate baseDate;
+    private final RecurrenceRule rule;
 
     // 시간 정보를 부모 Schedule 형태로 저장 (호환성 유지)
     private final int year, month, day;
     private final int startHour, startMinute, endHour, endMinute;
 
+    // 첫 발생일의 epochDay (기본 규칙은 이후 7일 간격으로 바로 계산)
+    private final long firstEpochDay;
+    private final boolean simpleWeekly;
+
+    // 지연 전개 모드: 발생 건별로 기본값과 달라진 부분만 저장 (epochDay -> override)
+    private final Map<Long, OccurrenceOverride> overrides = new HashMap<>();
+
+    // override 변경 통지 대상 (ScheduleManager의 변경 기록용)
+    private OverrideListener overrideListener;
+
+    /**
+     * 발생 건별 변경 리스너 (기본값으로 돌아오면 override는 null)
+     */
+    interface OverrideListener {
+        void onOverrideChanged(RepeatSchedule pattern, LocalDate date, OccurrenceOverride override);
+    }
+
     /**
      * 반복 일정 패턴 생성자
      */
     public RepeatSchedule(String title, DayOfWeek dayOfWeek, LocalTime startTime,
                           LocalTime endTime, LocalDate baseDate) {
-        super(title, null); // 반복 패턴 자체는 부모가 없음
+        this(null, title, dayOfWeek, startTime, endTime, baseDate);
+    }
+
+    /**
+     * 저장된 패턴 ID로 복원하는 생성자 (파생 일정의 fromRepeatId 연결 유지)
+     */
+    public RepeatSchedule(String id, String title, DayOfWeek dayOfWeek, LocalTime startTime,
+                          LocalTime endTime, LocalDate baseDate) {
+        this(id, title, RecurrenceRule.weekly(dayOfWeek, baseDate), startTime, endTime);
+    }
+
+    /**
+     * 반복 규칙(간격, 여러 요일, 월 n번째 요일, 종료일/횟수, 제외일)을 지정하는 생성자
+     */
+    public RepeatSchedule(String id, String title, RecurrenceRule rule, LocalTime startTime,
+                          LocalTime endTime) {
+        super(id, title, null); // 반복 패턴 자체는 부모가 없음
 
         if (!endTime.isAfter(startTime)) {
             throw new IllegalArgumentException("종료 시간이 시작 시간보다 늦어야 합니다.");
         }
 
-        this.dayOfWeek = dayOfWeek;
+        LocalDate baseDate = rule.getBaseDate();
+        this.rule = rule;
+        this.dayOfWeek = rule.getPrimaryDay();
         this.startTime = startTime.withSecond(0).withNano(0);
         this.endTime = endTime.withSecond(0).withNano(0);
         this.baseDate = baseDate;
+        this.simpleWeekly = rule.isSimpleWeekly();
+        this.firstEpochDay = rule.nextMatch(baseDate.toEpochDay());
 
         // 부모 클래스 호환성을 위한 필드 초기화
         this.year = baseDate.getYear();
@@ -43,11 +87,15 @@ public class RepeatSchedule extends BaseSchedule {
         this.endMinute = endTime.getMinute();
     }
 
+    /**
+     * 해당 날짜의 발생 일정을 즉석에서 생성하여 반환 (지연 전개)
+     * ScheduleManager가 지연 전개 모드일 때만 캘린더 조회에 사용되며,
+     * 기본 모드에서는 '이 달에 배치'로 생성된 구체적 Schedule만 표시됨
+     */
     @Override
     public List<Schedule> getOccurrencesOn(LocalDate date) {
-        // RepeatSchedule 자체는 캘린더에 표시되지 않음
-        // '이 달에 배치'를 통해 생성된 구체적 Schedule만 표시됨
-        return List.of();
+        Schedule occurrence = virtualOccurrence(date);
+        return occurrence == null ? List.of() : List.of(occurrence);
     }
 
     @Override
@@ -59,32 +107,272 @@ public class RepeatSchedule extends BaseSchedule {
      * 주 단위(+7일) 규칙으로 특정 월(YearMonth)의 모든 발생 날짜 계산
      */
     public List<LocalDate> occurrencesInMonth(YearMonth ym) {
+        return occurrencesBetween(ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    /**
+     * 날짜 범위(first, last 포함)의 모든 발생 날짜 계산
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate first, LocalDate last) {
         List<LocalDate> list = new ArrayList<>();
-        LocalDate first = ym.atDay(1);
-        LocalDate last = ym.atEndOfMonth();
+        OccurrenceIterator it = occurrenceIterator(first.toEpochDay(), last.toEpochDay());
+        while (it.hasNext()) {
+            list.add(LocalDate.ofEpochDay(it.nextLong()));
+        }
+        return list;
+    }
+
+    /**
+     * epochDay 이후(포함) 첫 발생일의 epochDay
+     * 요일 차이를 나머지 연산으로 계산하여 하루/한 주씩 이동하지 않음
+     */
+    public long firstOccurrenceOnOrAfter(long epochDay) {
+        if (epochDay <= firstEpochDay) return firstEpochDay;
+        if (!simpleWeekly) return rule.nextMatch(epochDay);
+        return epochDay + Math.floorMod(firstEpochDay - epochDay, 7);
+    }
+
+    /**
+     * epochDay 발생일 다음 발생일 (없으면 Long.MAX_VALUE)
+     */
+    public long nextOccurrenceAfter(long epochDay) {
+        return simpleWeekly ? epochDay + 7 : rule.nextMatch(epochDay + 1);
+    }
+
+    /**
+     * 날짜 범위(start, end 포함)의 발생 횟수
+     */
+    public long countOccurrencesBetween(long startEpochDay, long endEpochDay) {
+        long first = firstOccurrenceOnOrAfter(startEpochDay);
+        if (first > endEpochDay) return 0;
+        if (simpleWeekly) return (endEpochDay - first) / 7 + 1;
 
-        LocalDate cur = first;
-        while (cur.getDayOfWeek() != dayOfWeek) cur = cur.plusDays(1);
-        while (cur.isBefore(baseDate)) cur = cur.plusWeeks(1);
+        long n = 0;
+        for (long d = first; d <= endEpochDay; d = nextOccurrenceAfter(d)) n++;
+        return n;
+    }
+
+    /**
+     * 날짜 범위(start, end 포함)의 발생일을 epochDay로 순회 (날짜 객체 생성 없음)
+     */
+    public OccurrenceIterator occurrenceIterator(long startEpochDay, long endEpochDay) {
+        return new OccurrenceIterator(this, firstOccurrenceOnOrAfter(startEpochDay), endEpochDay);
+    }
 
-        while (!cur.isAfter(last)) {
-            list.add(cur);
-            cur = cur.plusWeeks(1);
+    /**
+     * 여러 패턴의 발생일을 한 번에 전개
+     * 패턴마다 범위 안의 첫 발생일로 바로 이동한 뒤 다음 발생일로 순회
+     */
+    public static void expandAll(Collection<RepeatSchedule> patterns, LocalDate start, LocalDate end,
+                                 OccurrenceConsumer consumer) {
+        long startDay = start.toEpochDay();
+        long endDay = end.toEpochDay();
+        for (RepeatSchedule r : patterns) {
+            for (long d = r.firstOccurrenceOnOrAfter(startDay); d <= endDay; d = r.nextOccurrenceAfter(d)) {
+                consumer.accept(r, d);
+            }
+        }
+    }
+
+    /**
+     * 발생일 콜백 (패턴, epochDay)
+     */
+    public interface OccurrenceConsumer {
+        void accept(RepeatSchedule pattern, long epochDay);
+    }
+
+    /**
+     * epochDay 단위 발생일 반복자
+     */
+    public static class OccurrenceIterator implements PrimitiveIterator.OfLong {
+        private final RepeatSchedule pattern;
+        private long next;
+        private final long end;
+
+        OccurrenceIterator(RepeatSchedule pattern, long first, long end) {
+            this.pattern = pattern;
+            this.next = first;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next <= end;
+        }
+
+        @Override
+        public long nextLong() {
+            if (next > end) throw new NoSuchElementException();
+            long current = next;
+            next = pattern.nextOccurrenceAfter(current);
+            return current;
         }
-        return list;
     }
 
     /**
      * 특정 날짜의 발생 여부 확인 및 구체적 일정 반환
      */
     public Schedule getOccurrence(LocalDate date) {
-        if (date.getDayOfWeek() != dayOfWeek) return null;
-        long daysBetween = ChronoUnit.DAYS.between(baseDate, date);
-        if (daysBetween < 0 || daysBetween % 7 != 0) return null;
-
+        if (!occursOn(date)) return null;
         return toConcrete(date);
     }
 
+    /**
+     * 특정 날짜가 반복 규칙에 맞는지 확인
+     */
+    public boolean occursOn(LocalDate date) {
+        return occursOn(date.toEpochDay());
+    }
+
+    public boolean occursOn(long epochDay) {
+        if (!simpleWeekly) return rule.matches(epochDay);
+        return epochDay >= firstEpochDay && (epochDay - firstEpochDay) % 7 == 0;
+    }
+
+    // ===== 지연 전개 (발생 건별 override) =====
+
+    /**
+     * 특정 날짜의 가상 발생 일정 생성 (건너뛴 발생이면 null)
+     * ID는 "패턴ID@epochDay"로 고정되어 같은 발생은 항상 같은 ID를 가짐
+     * 완료 상태 변경은 이 패턴의 override로 기록됨
+     */
+    public Schedule virtualOccurrence(LocalDate date) {
+        if (!occursOn(date)) return null;
+        OccurrenceOverride o = overrides.get(date.toEpochDay());
+        if (o != null && o.skipped) return null;
+
+        LocalTime start = (o != null && o.startTime != null) ? o.startTime : startTime;
+        LocalTime end = (o != null && o.endTime != null) ? o.endTime : endTime;
+        Schedule occurrence = new Schedule(occurrenceId(date),
+                date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+                start.getHour(), start.getMinute(), end.getHour(), end.getMinute(),
+                this.getTodo(), this.getId());
+        occurrence.setCompleted(o != null && o.completed);
+        occurrence.setCompletionListener((s, completed) -> setOccurrenceCompleted(date, completed));
+        return occurrence;
+    }
+
+    /**
+     * 가상 발생 일정의 ID
+     */
+    public String occurrenceId(LocalDate date) {
+        return getId() + "@" + date.toEpochDay();
+    }
+
+    /**
+     * 가상 발생 일정 ID에서 패턴 ID 추출 (가상 ID가 아니면 null)
+     */
+    public static String patternIdOf(String occurrenceId) {
+        int at = occurrenceId.lastIndexOf('@');
+        return at < 0 ? null : occurrenceId.substring(0, at);
+    }
+
+    /**
+     * 가상 발생 일정 ID에서 발생 날짜 추출
+     */
+    public static LocalDate occurrenceDateOf(String occurrenceId) {
+        int at = occurrenceId.lastIndexOf('@');
+        return LocalDate.ofEpochDay(Long.parseLong(occurrenceId.substring(at + 1)));
+    }
+
+    public void setOccurrenceCompleted(LocalDate date, boolean completed) {
+        editOverride(date, o -> o.completed = completed);
+    }
+
+    public boolean isOccurrenceCompleted(LocalDate date) {
+        return isOccurrenceCompleted(date.toEpochDay());
+    }
+
+    public boolean isOccurrenceCompleted(long epochDay) {
+        OccurrenceOverride o = overrides.get(epochDay);
+        return o != null && o.completed;
+    }
+
+    public boolean isOccurrenceSkipped(LocalDate date) {
+        return isOccurrenceSkipped(date.toEpochDay());
+    }
+
+    public boolean isOccurrenceSkipped(long epochDay) {
+        OccurrenceOverride o = overrides.get(epochDay);
+        return o != null && o.skipped;
+    }
+
+    /**
+     * 특정 발생만 건너뛰기 (해당 주만 삭제)
+     */
+    public void skipOccurrence(LocalDate date) {
+        editOverride(date, o -> o.skipped = true);
+    }
+
+    /**
+     * 특정 발생의 시간만 변경
+     */
+    public void moveOccurrence(LocalDate date, LocalTime start, LocalTime end) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 시간이 시작 시간보다 늦어야 합니다.");
+        }
+        editOverride(date, o -> {
+            o.startTime = start.equals(startTime) ? null : start;
+            o.endTime = end.equals(endTime) ? null : end;
+        });
+    }
+
+    /**
+     * 저장된 override 복원 (파일 로드용)
+     */
+    public void putOverride(LocalDate date, OccurrenceOverride override) {
+        if (override.isDefault()) overrides.remove(date.toEpochDay());
+        else overrides.put(date.toEpochDay(), override);
+    }
+
+    /**
+     * override 목록 (epochDay -> override, 읽기 전용)
+     */
+    public Map<Long, OccurrenceOverride> getOverrides() {
+        return Collections.unmodifiableMap(overrides);
+    }
+
+    private void editOverride(LocalDate date, Consumer<OccurrenceOverride> edit) {
+        long key = date.toEpochDay();
+        OccurrenceOverride o = overrides.computeIfAbsent(key, k -> new OccurrenceOverride());
+        edit.accept(o);
+        if (o.isDefault()) overrides.remove(key); // 기본값으로 돌아오면 저장하지 않음
+        if (overrideListener != null) {
+            overrideListener.onOverrideChanged(this, date, o.isDefault() ? null : o);
+        }
+    }
+
+    void setOverrideListener(OverrideListener listener) { this.overrideListener = listener; }
+
+    /**
+     * 발생 건별 변경 사항 (완료 여부, 건너뛰기, 시간 변경)
+     */
+    public static class OccurrenceOverride {
+        private boolean completed;
+        private boolean skipped;
+        private LocalTime startTime; // null이면 패턴 기본값
+        private LocalTime endTime;   // null이면 패턴 기본값
+
+        public OccurrenceOverride() {
+        }
+
+        public OccurrenceOverride(boolean completed, boolean skipped, LocalTime startTime, LocalTime endTime) {
+            this.completed = completed;
+            this.skipped = skipped;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        boolean isDefault() {
+            return !completed && !skipped && startTime == null && endTime == null;
+        }
+
+        public boolean isCompleted() { return completed; }
+        public boolean isSkipped() { return skipped; }
+        public LocalTime getStartTime() { return startTime; }
+        public LocalTime getEndTime() { return endTime; }
+    }
+
     /**
      * 특정 날짜의 '실제 일정(Schedule)'으로 구체화
      * Dependency Inversion Principle: 구체적인 Schedule 생성을 위임
@@ -101,6 +389,7 @@ public class RepeatSchedule extends BaseSchedule {
 
     // Getters
     public DayOfWeek getDayOfWeek() { return dayOfWeek; }
+    public RecurrenceRule getRule() { return rule; }
     public LocalTime getStartTime() { return startTime; }
     public LocalTime getEndTime() { return endTime; }
     public LocalDate getBaseDate() { return baseDate; }
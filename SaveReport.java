@@ -0,0 +1,77 @@
+/**
+ * 저장 결과 (Single Responsibility Principle)
+ * 한 번의 저장에서 실제로 기록한 레코드 수, 바이트 수, 파일 수
+ * (전체 교체한 파일과 끝에 추가한 변경 기록 파일 모두 파일 1개로 셈)
+ * 일부가 실패했으면 실패 내용을 함께 담으며, 실패한 부분은 다음 저장에서 다시 기록된다.
+ */
+public final class SaveReport {
+
+    public static final SaveReport NONE = new SaveReport(0, 0, 0);
+
+    private final long records;
+    private final long bytes;
+    private final int files;
+    private final String error; // 실패 내용 (성공이면 null)
+
+    public SaveReport(long records, long bytes, int files) {
+        this(records, bytes, files, null);
+    }
+
+    private SaveReport(long records, long bytes, int files, String error) {
+        this.records = records;
+        this.bytes = bytes;
+        this.files = files;
+        this.error = error;
+    }
+
+    /**
+     * 실패한 저장
+     */
+    public static SaveReport failed(String error) {
+        return new SaveReport(0, 0, 0, error);
+    }
+
+    public SaveReport plus(SaveReport other) {
+        String combined = (error == null) ? other.error
+                : (other.error == null) ? error : error + "\n" + other.error;
+        return new SaveReport(records + other.records, bytes + other.bytes, files + other.files, combined);
+    }
+
+    /**
+     * 누적 값의 차이 (저장 전후 비교용, 실패 내용은 this의 것을 유지)
+     */
+    public SaveReport minus(SaveReport other) {
+        return new SaveReport(records - other.records, bytes - other.bytes, files - other.files, error);
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public int getFiles() {
+        return files;
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isEmpty() {
+        return files == 0 && error == null;
+    }
+
+    @Override
+    public String toString() {
+        if (error != null) return "저장 실패: " + error;
+        if (isEmpty()) return "변경 없음";
+        return "레코드 " + records + "건, " + bytes + "바이트 (파일 " + files + "개)";
+    }
+}
\ No newline at end of file
@@ -10,6 +10,16 @@ public class Schedule extends BaseSchedule {
     private int startHour, startMinute, endHour, endMinute;
     private boolean check;
 
+    // 완료 상태 변경 통지 대상 (ScheduleManager의 달성률 집계용)
+    private CompletionListener completionListener;
+
+    /**
+     * 완료 상태 변경 리스너
+     */
+    interface CompletionListener {
+        void onCompletionChanged(Schedule s, boolean completed);
+    }
+
     /**
      * 일반 일정 생성자
      */
@@ -23,7 +33,15 @@ public class Schedule extends BaseSchedule {
      */
     public Schedule(int year, int month, int day, int startHour, int startMinute,
                     int endHour, int endMinute, String todo, String fromRepeatId) {
-        super(todo, fromRepeatId);
+        this(null, year, month, day, startHour, startMinute, endHour, endMinute, todo, fromRepeatId);
+    }
+
+    /**
+     * ID를 지정하는 생성자 (반복 패턴의 가상 발생 일정 등)
+     */
+    public Schedule(String id, int year, int month, int day, int startHour, int startMinute,
+                    int endHour, int endMinute, String todo, String fromRepeatId) {
+        super(id, todo, fromRepeatId);
         this.year = year;
         this.month = month;
         this.day = day;
@@ -59,7 +77,32 @@ public class Schedule extends BaseSchedule {
 
     // Getters and Setters
     public boolean completed() { return check; }
-    public boolean setCompleted(boolean check) { return this.check = check; }
+    public boolean setCompleted(boolean check) {
+        boolean changed = this.check != check;
+        this.check = check;
+        if (changed && completionListener != null) {
+            completionListener.onCompletionChanged(this, check);
+        }
+        return check;
+    }
+
+    void setCompletionListener(CompletionListener listener) { this.completionListener = listener; }
+
+    /**
+     * 날짜/시간/내용 제자리 수정 (ID와 완료 상태 유지)
+     * 날짜 인덱스 정합성을 위해 ScheduleManager.update()를 통해서만 호출
+     */
+    void update(int year, int month, int day, int startHour, int startMinute,
+                int endHour, int endMinute, String todo) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.startHour = startHour;
+        this.startMinute = startMinute;
+        this.endHour = endHour;
+        this.endMinute = endMinute;
+        this.todo = todo;
+    }
 
     public int getYear() { return year; }
     public int getMonth() { return month; }
@@ -0,0 +1,247 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * schedules.txt 스트리밍 파서 (Single Responsibility Principle)
+ * 형식: year,month,day,startHour,startMinute,endHour,endMinute,todo,completed,fromRepeatId
+ *
+ * String.split() 대신 큰 char 버퍼에서 필드 경계만 찾아 바로 해석한다.
+ * 숫자 필드는 문자열을 만들지 않고 변환하며, 줄 버퍼와 필드 위치 배열은 재사용한다.
+ * 줄마다 새로 만드는 객체는 결과 Schedule과 todo 문자열뿐이다.
+ * 잘못된 줄(없는 날짜/시각 포함)은 리스너로 알리고 다음 줄부터 계속 읽는다.
+ * 기존 split(",", -1) + trim() + Integer.parseInt() 방식과 같은 결과를 낸다.
+ */
+public class ScheduleFileParser {
+
+    /**
+     * 잘못된 줄의 종류
+     */
+    public enum Problem {
+        FIELD_COUNT,    // 필드가 9개 미만
+        NUMBER,         // 숫자 필드 해석 실패
+        VALUE           // 없는 날짜 또는 시각 (예: 2월 30일, 25시)
+    }
+
+    /**
+     * 잘못된 줄 알림 리스너
+     */
+    public interface ErrorListener {
+        void onMalformedLine(int lineNumber, String line, Problem problem);
+    }
+
+    private static final int FIELD_COUNT = 10;
+
+    // 재사용 파싱 상태
+    private final char[] readBuf = new char[64 * 1024];
+    private char[] line = new char[256];
+    private int lineLength;
+    private final int[] fieldStart = new int[FIELD_COUNT];
+    private final int[] fieldEnd = new int[FIELD_COUNT];
+    private boolean numberError;
+
+    // 같은 반복 패턴 ID 문자열을 하나로 공유
+    private final Map<String, String> repeatIds = new HashMap<>();
+
+    /**
+     * Reader 전체를 읽어 일정마다 consumer 호출
+     * @return 정상적으로 읽은 일정 개수
+     */
+    public int parse(Reader reader, Consumer<Schedule> consumer, ErrorListener errors) throws IOException {
+        int count = 0;
+        int lineNumber = 0;
+        boolean pendingCr = false;
+        lineLength = 0;
+
+        int n;
+        while ((n = reader.read(readBuf, 0, readBuf.length)) != -1) {
+            for (int i = 0; i < n; i++) {
+                char ch = readBuf[i];
+                if (ch == '\n' && pendingCr) {      // \r\n의 \n은 이미 처리됨
+                    pendingCr = false;
+                    continue;
+                }
+                pendingCr = (ch == '\r');
+                if (ch == '\n' || ch == '\r') {
+                    lineNumber++;
+                    if (parseLine(lineNumber, consumer, errors)) count++;
+                    lineLength = 0;
+                } else {
+                    if (lineLength == line.length) {
+                        char[] grown = new char[line.length * 2];
+                        System.arraycopy(line, 0, grown, 0, lineLength);
+                        line = grown;
+                    }
+                    line[lineLength++] = ch;
+                }
+            }
+        }
+        if (lineLength > 0) {
+            lineNumber++;
+            if (parseLine(lineNumber, consumer, errors)) count++;
+            lineLength = 0;
+        }
+        return count;
+    }
+
+    /**
+     * 현재 줄 버퍼 해석
+     * @return 일정을 만들었으면 true
+     */
+    private boolean parseLine(int lineNumber, Consumer<Schedule> consumer, ErrorListener errors) {
+        char[] c = line;
+        int len = lineLength;
+
+        // 빈 줄과 주석 건너뛰기
+        if (len == 0 || c[0] == '#') return false;
+        int first = 0;
+        while (first < len && c[first] <= ' ') first++;
+        if (first == len) return false;
+
+        // 필드 경계 찾기 (앞 10개만 기록, 개수는 전체를 셈)
+        int fields = 0;
+        int start = 0;
+        for (int i = 0; i <= len; i++) {
+            if (i == len || c[i] == ',') {
+                if (fields < FIELD_COUNT) {
+                    fieldStart[fields] = start;
+                    fieldEnd[fields] = i;
+                }
+                fields++;
+                start = i + 1;
+            }
+        }
+        if (fields < 9) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.FIELD_COUNT);
+            return false;
+        }
+
+        numberError = false;
+        int year = parseInt(0);
+        int month = parseInt(1);
+        int day = parseInt(2);
+        int startHour = parseInt(3);
+        int startMinute = parseInt(4);
+        int endHour = parseInt(5);
+        int endMinute = parseInt(6);
+        if (numberError) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.NUMBER);
+            return false;
+        }
+        if (!isValidDate(year, month, day) || !isValidTime(startHour, startMinute)
+                || !isValidTime(endHour, endMinute)) {
+            errors.onMalformedLine(lineNumber, new String(c, 0, len), Problem.VALUE);
+            return false;
+        }
+
+        String todo = trimmedString(7);
+        boolean completed = isTrue(8);
+        String fromRepeatId = null;
+        if (fields >= 10) {
+            String id = trimmedString(9);
+            if (!id.isEmpty() && !id.equals("null")) {
+                fromRepeatId = repeatIds.computeIfAbsent(id, k -> k);
+            }
+        }
+
+        Schedule s = new Schedule(year, month, day, startHour, startMinute,
+                endHour, endMinute, todo, fromRepeatId);
+        s.setCompleted(completed);
+        consumer.accept(s);
+        return true;
+    }
+
+    /**
+     * 필드를 공백 제거 후 정수로 변환 (Integer.parseInt와 같은 규칙, 실패 시 numberError 설정)
+     */
+    private int parseInt(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        if (s == e) {
+            numberError = true;
+            return 0;
+        }
+
+        boolean negative = false;
+        char sign = line[s];
+        if (sign == '-' || sign == '+') {
+            negative = (sign == '-');
+            if (++s == e) {
+                numberError = true;
+                return 0;
+            }
+        }
+
+        long value = 0;
+        for (int i = s; i < e; i++) {
+            int digit = Character.digit(line[i], 10);
+            if (digit < 0) {
+                numberError = true;
+                return 0;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                numberError = true;
+                return 0;
+            }
+        }
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+            numberError = true;
+            return 0;
+        }
+        return (int) value;
+    }
+
+    /**
+     * LocalDate.of()가 받아들이는 날짜인지 확인 (일정 인덱스에 넣을 때 예외가 나지 않도록)
+     */
+    private static boolean isValidDate(int year, int month, int day) {
+        if (year < Year.MIN_VALUE || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1) return false;
+        int length = switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+        return day <= length;
+    }
+
+    private static boolean isValidTime(int hour, int minute) {
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
+    }
+
+    /**
+     * Boolean.parseBoolean(trim())과 같은 판정
+     */
+    private boolean isTrue(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        if (e - s != 4) return false;
+        return (line[s] == 't' || line[s] == 'T')
+                && (line[s + 1] == 'r' || line[s + 1] == 'R')
+                && (line[s + 2] == 'u' || line[s + 2] == 'U')
+                && (line[s + 3] == 'e' || line[s + 3] == 'E');
+    }
+
+    private String trimmedString(int field) {
+        int s = trimStart(field);
+        int e = trimEnd(field, s);
+        return new String(line, s, e - s);
+    }
+
+    private int trimStart(int field) {
+        int s = fieldStart[field];
+        int e = fieldEnd[field];
+        while (s < e && line[s] <= ' ') s++;
+        return s;
+    }
+
+    private int trimEnd(int field, int trimmedStart) {
+        int e = fieldEnd[field];
+        while (e > trimmedStart && line[e - 1] <= ' ') e--;
+        return e;
+    }
+}
\ No newline at end of file
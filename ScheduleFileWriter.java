@@ -0,0 +1,190 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 일정 파일 일괄 기록기 (Single Responsibility Principle)
+ *
+ * String.format() 없이 숫자와 필드를 재사용 char 버퍼에 바로 이어 붙이고,
+ * 버퍼가 차면 한꺼번에 인코딩해 FileChannel로 큰 단위씩 기록한다.
+ * 문자셋과 줄바꿈은 FileWriter + BufferedWriter.newLine()과 같다.
+ *
+ * 내용은 같은 폴더의 임시 파일에 쓰고, commit()을 호출해야 GroupCommit을 통해
+ * fsync 후 원자적으로 대상 파일을 교체한다 (교체가 반영될 때까지 기다림). commit() 없이 close()하면 임시 파일은 버려지므로
+ * 저장 도중 오류가 나도 대상 파일은 이전 내용 그대로 남는다.
+ * 인스턴스는 파일마다 open()/commit()/close()로 다시 쓸 수 있다.
+ */
+public class ScheduleFileWriter implements Closeable {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final char[] chars = new char[128 * 1024];
+    private final CharBuffer charView = CharBuffer.wrap(chars);
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(512 * 1024);
+    private final CharsetEncoder encoder;
+    private final GroupCommit commits;
+    private int length;
+    private long written;
+    private FileChannel channel;
+    private Path target;
+    private Path temp;
+
+    public ScheduleFileWriter() {
+        this(Charset.defaultCharset(), GroupCommit.getDefault());
+    }
+
+    public ScheduleFileWriter(Charset charset, GroupCommit commits) {
+        this.commits = commits;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * 대상 파일을 교체할 임시 파일에 기록 시작
+     */
+    public ScheduleFileWriter open(String file) throws IOException {
+        if (channel != null) {
+            throw new IllegalStateException("이미 열려 있는 파일이 있습니다");
+        }
+        target = Path.of(file);
+        temp = commits.createTemp(target);
+        channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        encoder.reset();
+        bytes.clear();
+        length = 0;
+        written = 0;
+        return this;
+    }
+
+    public ScheduleFileWriter append(String s) throws IOException {
+        if (s == null) s = "null";
+        int from = 0;
+        int total = s.length();
+        while (from < total) {
+            if (length == chars.length) flushChars(false);
+            int n = Math.min(total - from, chars.length - length);
+            s.getChars(from, from + n, chars, length);
+            length += n;
+            from += n;
+        }
+        return this;
+    }
+
+    public ScheduleFileWriter append(char c) throws IOException {
+        if (length == chars.length) flushChars(false);
+        chars[length++] = c;
+        return this;
+    }
+
+    public ScheduleFileWriter append(boolean b) throws IOException {
+        return append(b ? "true" : "false");
+    }
+
+    /**
+     * 정수를 10진수 문자로 바로 기록 (Integer.toString과 같은 결과)
+     */
+    public ScheduleFileWriter append(int value) throws IOException {
+        if (chars.length - length < 11) flushChars(false);
+
+        long v = value;
+        if (v < 0) {
+            chars[length++] = '-';
+            v = -v;
+        }
+        int digits = 1;
+        for (long p = 10; p <= v; p *= 10) digits++;
+        int pos = length + digits;
+        do {
+            chars[--pos] = (char) ('0' + (v % 10));
+            v /= 10;
+        } while (v > 0);
+        length += digits;
+        return this;
+    }
+
+    public ScheduleFileWriter newLine() throws IOException {
+        return append(LINE_SEPARATOR);
+    }
+
+    /**
+     * 남은 내용을 모두 기록하고 대상 파일을 교체 (GroupCommit에서 반영될 때까지 대기)
+     * @return 기록한 바이트 수
+     * @throws IOException 기록 또는 교체가 실패한 경우 (대상 파일은 이전 내용 그대로)
+     */
+    public long commit() throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("열려 있는 파일이 없습니다");
+        }
+        try {
+            flushChars(true);
+            drainBytes();
+        } finally {
+            channel.close();
+            channel = null;
+            length = 0;
+        }
+        Path committed = temp;
+        temp = null; // 교체 요청 후에는 GroupCommit이 임시 파일을 정리
+        GroupCommit.await(commits.replace(committed, target));
+        return written;
+    }
+
+    /**
+     * commit()하지 않은 내용은 버리고 닫기 (대상 파일은 그대로)
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+            length = 0;
+        }
+        if (temp != null) {
+            Files.deleteIfExists(temp);
+            temp = null;
+        }
+    }
+
+    /**
+     * char 버퍼를 바이트로 인코딩 (끝나지 않은 서로게이트 쌍은 버퍼 앞으로 남김)
+     */
+    private void flushChars(boolean endOfInput) throws IOException {
+        charView.limit(length).position(0);
+        while (true) {
+            CoderResult result = encoder.encode(charView, bytes, endOfInput);
+            if (result.isOverflow()) {
+                drainBytes();
+                continue;
+            }
+            if (result.isError()) result.throwException();
+            break;
+        }
+        if (endOfInput) {
+            while (encoder.flush(bytes).isOverflow()) {
+                drainBytes();
+            }
+        }
+
+        int remaining = charView.remaining();
+        System.arraycopy(chars, charView.position(), chars, 0, remaining);
+        length = remaining;
+    }
+
+    private void drainBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
\ No newline at end of file
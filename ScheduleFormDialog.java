@@ -51,22 +51,21 @@ public class ScheduleFormDialog extends JDialog {
 
         cancel.addActionListener(e -> dispose());
         save.addActionListener(e -> {
-            ISchedule newSchedule = new Schedule(
+            Schedule newSchedule = new Schedule(
                 year, month, (int) dayBox.getSelectedItem(),
                 (int) startH.getSelectedItem(), (int) startM.getSelectedItem(),
                 (int) endH.getSelectedItem(), (int) endM.getSelectedItem(),
                 todoField.getText().trim()
             );
 
-            if (!service.addSchedule(newSchedule)) {
+            // 수정 모드면 기존 일정을 제자리에서 수정 (ID 유지)
+            boolean ok = (target == null)
+                    ? service.addSchedule(newSchedule)
+                    : service.updateSchedule(target.getId(), newSchedule);
+            if (!ok) {
                 JOptionPane.showMessageDialog(this, "입력값이 올바르지 않습니다.", "오류", JOptionPane.ERROR_MESSAGE);
                 return;
             }
-
-            // 수정 모드였다면 기존 일정 삭제
-            if (target != null) {
-                service.getManager().removeSchedule(target);
-            }
             
             onComplete.run();
             dispose();
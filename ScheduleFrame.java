@@ -1,6 +1,10 @@
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 import javax.swing.*;
 
 public class ScheduleFrame extends JFrame {
@@ -39,6 +43,14 @@ public class ScheduleFrame extends JFrame {
 
         setTitle("일정 관리 시스템");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                // 종료 전에 백그라운드에서 진행 중인 저장을 마무리하고 일정 저장소를 닫음
+                projectManager.awaitDurable();
+                service.getManager().close();
+            }
+        });
         setSize(1500, 1100);
 
         BackgroundPanel background = new BackgroundPanel("/image/background.png");
@@ -183,17 +195,31 @@ public class ScheduleFrame extends JFrame {
                 repeatPanel.refresh();
                 projectPanel.refresh();
                 JOptionPane.showMessageDialog(this, "로드 완료");
+            } catch (IllegalStateException e) {
+                updateCalendar();
+                JOptionPane.showMessageDialog(this, e.getMessage(), "불러오기 실패", JOptionPane.ERROR_MESSAGE);
             } catch (Exception e) { e.printStackTrace(); }
         }
     }
 
     private void saveAllData() {
-        int confirm = JOptionPane.showConfirmDialog(this, "저장하시겠습니까?", "확인", JOptionPane.YES_NO_OPTION);
-        if (confirm == JOptionPane.YES_OPTION) {
+        // 일정 CSV 파일(schedules.txt 등)은 내보내기를 고를 때만 갱신됨
+        Object[] options = {"저장", "저장 + CSV 내보내기", "취소"};
+        int choice = JOptionPane.showOptionDialog(this,
+                "저장하시겠습니까?\n(일정 CSV 파일은 'CSV 내보내기'를 선택할 때만 갱신됩니다)", "확인",
+                JOptionPane.YES_NO_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
+        if (choice == 0 || choice == 1) {
             try {
-                service.getManager().saveSchedulesToCsv();
-                projectManager.saveProjects();
-                JOptionPane.showMessageDialog(this, "저장 완료");
+                ScheduleManager manager = service.getManager();
+                SaveReport scheduleReport = (choice == 1) ? manager.saveSchedulesToCsv() : manager.save();
+                SaveReport report = scheduleReport.plus(projectManager.save());
+                if (report.isFailed()) {
+                    JOptionPane.showMessageDialog(this, "일부 데이터를 저장하지 못했습니다.\n" + report.getError()
+                            + "\n\n변경 내용은 남아 있으니 문제를 해결한 뒤 다시 저장하세요.",
+                            "저장 실패", JOptionPane.ERROR_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this, "저장 완료\n" + report);
+                }
             } catch (Exception e) { e.printStackTrace(); }
         }
     }
@@ -259,13 +285,17 @@ public class ScheduleFrame extends JFrame {
     // ✅ 리팩토링된 달력 업데이트 로직
     public void updateCalendar() {
         monthLabel.setText(year + "년 " + month + "월");
-        service.setCurrentMonth(java.time.YearMonth.of(year, month));
+        YearMonth ym = YearMonth.of(year, month);
+        service.setCurrentMonth(ym);
+
+        // 한 달치 일정을 한 번에 조회하여 셀 렌더러와 달성률 패널이 공유
+        Map<LocalDate, List<Schedule>> monthSchedules = service.getManager().getSchedulesIn(ym);
 
         calendarPanel.updateCalendar(year, month, selectedDate,
             (cell, date) -> {
                 // 셀 렌더러 로직
-                var schedules = service.getManager().getSchedulesOn(date);
-                int dailyRate = calculateDailyAchievement(schedules);
+                List<Schedule> schedules = monthSchedules.getOrDefault(date, List.of());
+                int dailyRate = service.getManager().getDailyAchievement(date);
                 Color c = getAchievementColor(dailyRate);
                 if (c != null) {
                     cell.setBackground(c);
@@ -339,12 +369,6 @@ public class ScheduleFrame extends JFrame {
     }
     
     // 헬퍼 메서드들
-    private int calculateDailyAchievement(ArrayList<Schedule> schedules) {
-        if (schedules == null || schedules.isEmpty()) return -1;
-        long completed = schedules.stream().filter(Schedule::completed).count();
-        return (int) Math.round((completed * 100.0) / schedules.size());
-    }
-
     private Color getAchievementColor(int rate) {
         if (rate == 100) return new Color(220, 245, 210);
         else if (rate >= 51) return new Color(255, 250, 210);
@@ -353,18 +377,8 @@ public class ScheduleFrame extends JFrame {
     }
     
     private void updateAchievementPanel() {
-        // 월 전체 달성률 계산 로직 (기존과 동일)
-        LocalDate firstDay = LocalDate.of(year, month, 1);
-        LocalDate lastDay = firstDay.withDayOfMonth(firstDay.lengthOfMonth());
-        int total = 0, completed = 0;
-        for (LocalDate d = firstDay; !d.isAfter(lastDay); d = d.plusDays(1)) {
-            var list = service.getManager().getSchedulesOn(d);
-            for(Schedule s : list) {
-                total++;
-                if(s.completed()) completed++;
-            }
-        }
-        int rate = (total == 0) ? 0 : (int)Math.round((completed * 100.0)/total);
+        // 월 전체 달성률: ScheduleManager가 유지하는 월별 집계 사용
+        int rate = service.getManager().getMonthlyAchievement(YearMonth.of(year, month));
         achievementLabel.setText(month + "월 달성률: " + rate + "%");
         achievementBar.setValue(rate);
     }
@@ -1,30 +1,157 @@
 import java.io.*;
+import java.nio.file.Path;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
  * 통합 스케줄 관리자 (Single Responsibility Principle)
  * ISchedule 인터페이스를 통해 일반/반복 스케줄을 통합 관리
+ *
+ * 일정은 저장소(월별 파티션)와 변경 기록에 저장한다. CSV 파일(schedules.txt 등)은
+ * 저장소가 없을 때 처음 한 번 가져오고, saveSchedulesToCsv()로 내보낼 때만 다시 쓴다.
  */
 public class ScheduleManager {
 
     // Liskov Substitution Principle: ISchedule 인터페이스로 통합 관리
-    private final List<ISchedule> scheduleList = new ArrayList<>();
+    // ID -> 스케줄 (삽입 순서 유지, 저장 순서로 사용)
+    private final Map<String, ISchedule> schedulesById = new LinkedHashMap<>();
+
+    // 날짜 인덱스: epochDay -> 해당 날짜의 구체적 일정 버킷
+    private final Map<Long, List<Schedule>> dayIndex = new HashMap<>();
+
+    // 반복 패턴: 요일별 + baseDate 순 인덱스
+    private final RepeatManager repeatIndex = new RepeatManager();
+
+    // 그 외 날짜에 고정되지 않는 스케줄은 조회 시 getOccurrencesOn()으로 평가
+    private final List<ISchedule> undatedSchedules = new ArrayList<>();
+
+    // 달성률 집계: 날짜별 / 월별 (전체, 완료) 개수
+    private final Map<Long, Tally> dayTally = new HashMap<>();
+    private final Map<YearMonth, Tally> monthTally = new HashMap<>();
+    private final Schedule.CompletionListener tallyUpdater = this::onCompletionChanged;
+
+    // 반복 패턴 ID -> 파생된 구체적 일정들
+    private final Map<String, Set<Schedule>> childrenByRepeatId = new HashMap<>();
+
+    // 지연 전개 모드: 반복 패턴의 발생 일정을 조회 시점에 계산 (구체적 일정을 저장하지 않음)
+    private boolean lazyRepeatExpansion = false;
+
+    // 저장: 임시 파일 → fsync → 원자적 rename (다른 매니저의 저장과 함께 묶어서 처리)
+    private final GroupCommit commits = GroupCommit.getDefault();
+
+    // 저장용 버퍼 (파일마다 재사용)
+    private final ScheduleFileWriter fileWriter = new ScheduleFileWriter();
+
+    // 변경 기록 (로드 중에는 null, 월별 파티션 위에 재생)
+    private MutationJournal journal;
+    // 저장소를 읽지 못한 상태 (빈 상태로 파일을 덮어쓰지 않도록 저장을 막음)
+    private boolean loadFailed;
+    private final RepeatSchedule.OverrideListener overrideRecorder = this::recordOverride;
+
+    // 월별 파티션: 각 달은 처음 조회하거나 변경할 때 저장소에서 로드하고, 오래 쓰지 않은 달은 내림
+    private final ScheduleRepository repository;
+    private final Set<YearMonth> storedMonths = new HashSet<>();   // 파티션 파일이 있는 달
+    private final Map<YearMonth, Boolean> loadedMonths =           // 메모리에 있는 달 (최근 사용 순)
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<YearMonth> modifiedMonths = new HashSet<>(); // 파티션 저장 이후 변경된 달 (내리지 않음)
+    private final Set<String> modifiedPatterns = new HashSet<>();  // 파티션 저장 이후 변경된 반복 패턴 ID
 
     // 파일 경로 상수
     private static final String SCHEDULE_FILE = "schedules.txt";
     private static final String REPEAT_FILE = "repeat_schedules.txt";
+    private static final String OVERRIDE_FILE = "repeat_overrides.txt";
+    private static final String SNAPSHOT_FILE = "schedules.snap";
+    private static final String JOURNAL_FILE = "schedules.journal";
+    private static final String LOAD_FAILED_MESSAGE = "일정을 불러오지 못해 저장하지 않았습니다 (다시 불러온 뒤 저장하세요)";
+
+    // 메모리에 둘 최대 달 수, 메모리가 부족할 때도 남길 최소 달 수
+    private static final int MAX_LOADED_MONTHS = 24;
+    private static final int MIN_LOADED_MONTHS = 3;
+    private static final double MEMORY_PRESSURE_RATIO = 0.75;
+
+    // 변경 기록이 이 개수와 로드된 일정 수를 모두 넘으면 저장 시 월별 파티션으로 압축
+    private static final int COMPACTION_MIN_RECORDS = 1000;
+
+    private static final Comparator<Schedule> START_TIME_ORDER =
+            Comparator.comparingInt(x -> x.getStartHour() * 60 + x.getStartMinute());
+
+    /**
+     * 시스템 속성(teamplanner.store)으로 선택한 저장소 사용 (없으면 월별 파티션 파일)
+     */
+    public ScheduleManager() {
+        this.repository = ScheduleRepository.open(System.getProperty(ScheduleRepository.STORE_PROPERTY), commits);
+    }
+
+    public ScheduleManager(ScheduleRepository repository) {
+        if (repository == null) {
+            throw new IllegalArgumentException("ScheduleRepository는 null일 수 없습니다.");
+        }
+        this.repository = repository;
+    }
 
     /**
      * 스케줄 추가 (일반/반복 모두 가능)
      */
     public void add(ISchedule s) {
-        scheduleList.add(s);
+        if (s instanceof Schedule) ensureLoaded(monthOf((Schedule) s)); // 그 달의 집계를 먼저 갖춤
+        ISchedule previous = schedulesById.put(s.getId(), s);
+        if (previous != null) {
+            unindex(previous);
+            markModified(previous);
+        }
+        index(s);
+        markModified(s);
+        recordAdd(s);
+    }
+
+    /**
+     * ID로 스케줄 조회 (메모리에 로드된 달에서만 찾음)
+     */
+    public ISchedule findById(String id) {
+        return schedulesById.get(id);
+    }
+
+    /**
+     * 일반 일정을 제자리에서 수정 (ID 유지)
+     * 날짜가 바뀌면 날짜 인덱스와 달성률 집계도 함께 이동
+     * @return 해당 ID의 일반 일정이 없으면 false
+     */
+    public boolean update(String id, int year, int month, int day, int startHour, int startMinute,
+                          int endHour, int endMinute, String todo) {
+        ISchedule s = schedulesById.get(id);
+        if (s == null) {
+            return updateVirtualOccurrence(id, year, month, day, startHour, startMinute,
+                    endHour, endMinute, todo);
+        }
+        if (!(s instanceof Schedule)) return false;
+
+        Schedule schedule = (Schedule) s;
+        YearMonth oldMonth = monthOf(schedule);
+        markModified(schedule);
+        ensureLoaded(YearMonth.of(year, month)); // 옮겨 갈 달도 로드
+        unindex(schedule);
+        schedule.update(year, month, day, startHour, startMinute, endHour, endMinute, todo);
+        index(schedule);
+        markModified(schedule);
+        record("E", id, year, month, day, startHour, startMinute, endHour, endMinute, todo, oldMonth);
+        return true;
     }
 
     /**
@@ -33,25 +160,362 @@ public class ScheduleManager {
      */
     public void removeSchedule(ISchedule s) {
         if (s.getScheduleType() == ISchedule.ScheduleType.REPEAT) {
-            // 반복 패턴 삭제: 패턴과 파생된 모든 일정 삭제
-            String patternId = s.getId();
-            scheduleList.remove(s);
-            scheduleList.removeIf(child ->
-                    child.getFromRepeatId() != null &&
-                            child.getFromRepeatId().equals(patternId)
-            );
+            // 반복 패턴 삭제: 패턴과 파생된 모든 일정 삭제 (파생 일정이 있는 달을 모두 로드)
+            ensureRepeatLoaded(s.getId());
+            if (schedulesById.remove(s.getId(), s)) unindex(s);
+            markModified(s);
+            record("D", s.getId());
+            Set<Schedule> children = childrenByRepeatId.remove(s.getId());
+            if (children != null) {
+                for (Schedule child : children) {
+                    schedulesById.remove(child.getId());
+                    unindex(child);
+                    markModified(child);
+                }
+            }
+            evictColdPartitions(); // 파생 일정을 찾느라 로드한 달 중 변경이 없는 달
             System.out.println("반복 패턴과 관련된 모든 일정이 삭제되었습니다.");
         } else {
-            // 일반 일정 삭제
-            scheduleList.remove(s);
+            // 일반 일정 삭제 (가상 발생 일정이면 해당 발생만 건너뛰기)
+            if (schedulesById.remove(s.getId(), s)) {
+                unindex(s);
+                markModified(s);
+                record("D", s.getId(), monthOf((Schedule) s));
+            } else {
+                RepeatSchedule pattern = patternOfOccurrence(s.getId());
+                if (pattern != null) {
+                    pattern.skipOccurrence(RepeatSchedule.occurrenceDateOf(s.getId()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 반복 패턴을 같은 ID로 교체 (발생 건별 변경과 배치된 일정 유지)
+     * 새 규칙에 더 이상 해당하지 않는 날짜에 배치된 일정은 삭제하고, 남은 일정은 패턴에서 물려받은
+     * 제목과 시간을 새 값으로 바꿈 (일정마다 따로 고친 제목/시간은 그대로 둠)
+     * @throws IllegalArgumentException 같은 ID의 반복 패턴이 없을 때
+     */
+    public void updateRepeat(RepeatSchedule edited) {
+        ISchedule s = schedulesById.get(edited.getId());
+        if (!(s instanceof RepeatSchedule)) {
+            throw new IllegalArgumentException("수정할 반복 패턴을 찾을 수 없습니다: " + edited.getId());
+        }
+        RepeatSchedule previous = (RepeatSchedule) s;
+        for (Map.Entry<Long, RepeatSchedule.OccurrenceOverride> e : previous.getOverrides().entrySet()) {
+            edited.putOverride(LocalDate.ofEpochDay(e.getKey()), e.getValue());
         }
+
+        ensureRepeatLoaded(edited.getId());
+        Set<Schedule> children = childrenByRepeatId.get(edited.getId());
+        if (children != null) {
+            for (Schedule child : new ArrayList<>(children)) {
+                if (!edited.occursOn(child.getDate())) {
+                    removeSchedule(child);
+                    continue;
+                }
+                String todo = child.getTodo().equals(previous.getTodo()) ? edited.getTodo() : child.getTodo();
+                LocalTime start = LocalTime.of(child.getStartHour(), child.getStartMinute());
+                LocalTime end = LocalTime.of(child.getEndHour(), child.getEndMinute());
+                if (start.equals(previous.getStartTime()) && end.equals(previous.getEndTime())) {
+                    start = edited.getStartTime();
+                    end = edited.getEndTime();
+                }
+                if (!todo.equals(child.getTodo()) || start.getHour() != child.getStartHour()
+                        || start.getMinute() != child.getStartMinute() || end.getHour() != child.getEndHour()
+                        || end.getMinute() != child.getEndMinute()) {
+                    update(child.getId(), child.getYear(), child.getMonth(), child.getDay(),
+                            start.getHour(), start.getMinute(), end.getHour(), end.getMinute(), todo); // 변경 기록(E)
+                }
+            }
+        }
+        add(edited); // 같은 ID의 이전 패턴을 인덱스에서 교체하고 변경 기록(R, O)을 남김
+        evictColdPartitions();
+    }
+
+    // ===== 지연 전개 모드 =====
+
+    public boolean isLazyRepeatExpansion() {
+        return lazyRepeatExpansion;
     }
 
     /**
-     * 전체 스케줄 목록 반환 (읽기 전용)
+     * 지연 전개 모드 설정
+     * 켜면 반복 패턴이 '이 달에 배치' 없이 모든 달의 조회에 즉석에서 나타남
+     */
+    public void setLazyRepeatExpansion(boolean lazyRepeatExpansion) {
+        this.lazyRepeatExpansion = lazyRepeatExpansion;
+    }
+
+    /**
+     * 가상 발생 일정 ID로 반복 패턴 조회 (가상 ID가 아니면 null)
+     */
+    private RepeatSchedule patternOfOccurrence(String occurrenceId) {
+        String patternId = RepeatSchedule.patternIdOf(occurrenceId);
+        if (patternId == null) return null;
+        ISchedule p = schedulesById.get(patternId);
+        return (p instanceof RepeatSchedule) ? (RepeatSchedule) p : null;
+    }
+
+    /**
+     * 가상 발생 일정 수정
+     * 같은 날짜에서 시간만 바뀌면 override로 기록하고,
+     * 날짜나 내용이 바뀌면 해당 발생을 건너뛰고 구체적 일정으로 분리
+     */
+    private boolean updateVirtualOccurrence(String id, int year, int month, int day, int startHour,
+                                            int startMinute, int endHour, int endMinute, String todo) {
+        RepeatSchedule pattern = patternOfOccurrence(id);
+        if (pattern == null) return false;
+
+        LocalDate original = RepeatSchedule.occurrenceDateOf(id);
+        if (original.equals(LocalDate.of(year, month, day)) && todo.equals(pattern.getTodo())) {
+            pattern.moveOccurrence(original,
+                    LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+        } else {
+            boolean completed = pattern.isOccurrenceCompleted(original);
+            pattern.skipOccurrence(original);
+            Schedule detached = new Schedule(year, month, day, startHour, startMinute,
+                    endHour, endMinute, todo, pattern.getId());
+            detached.setCompleted(completed);
+            add(detached);
+        }
+        return true;
+    }
+
+    /**
+     * 해당 날짜에 이 패턴의 구체적 일정이 이미 배치되어 있는지 확인
+     * (지연 전개 시 배치된 일정과 가상 일정이 중복 표시되지 않도록)
+     */
+    private boolean isMaterialized(String repeatId, LocalDate date) {
+        return isMaterialized(repeatId, date.toEpochDay());
+    }
+
+    private boolean isMaterialized(String repeatId, long epochDay) {
+        List<Schedule> bucket = dayIndex.get(epochDay);
+        if (bucket == null) return false;
+        for (Schedule s : bucket) {
+            if (repeatId.equals(s.getFromRepeatId())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 지연 전개 모드에서 가상 발생 일정을 집계에 더함
+     */
+    private void addVirtualTally(Tally t, LocalDate start, LocalDate end) {
+        if (!lazyRepeatExpansion) return;
+        repeatIndex.forEachOccurrence(start, end, (r, day) -> {
+            if (r.isOccurrenceSkipped(day) || isMaterialized(r.getId(), day)) return;
+            t.add(1, r.isOccurrenceCompleted(day) ? 1 : 0);
+        });
+    }
+
+    /**
+     * 날짜 인덱스에 등록
+     * 구체적 일정은 날짜 버킷에, 그 외 스케줄은 조회 시 평가 목록에 추가
+     */
+    private void index(ISchedule s) {
+        if (s instanceof Schedule) {
+            Schedule schedule = (Schedule) s;
+            dayIndex.computeIfAbsent(schedule.getDate().toEpochDay(), k -> new ArrayList<>())
+                    .add(schedule);
+            tally(schedule, 1, schedule.completed() ? 1 : 0);
+            schedule.setCompletionListener(tallyUpdater);
+            if (schedule.getFromRepeatId() != null) {
+                childrenByRepeatId.computeIfAbsent(schedule.getFromRepeatId(), k -> new LinkedHashSet<>())
+                        .add(schedule);
+            }
+        } else if (s instanceof RepeatSchedule) {
+            repeatIndex.add((RepeatSchedule) s);
+            ((RepeatSchedule) s).setOverrideListener(overrideRecorder);
+        } else {
+            undatedSchedules.add(s);
+        }
+    }
+
+    /**
+     * 날짜 인덱스에서 제거
+     */
+    private void unindex(ISchedule s) {
+        if (s instanceof Schedule) {
+            Schedule schedule = (Schedule) s;
+            long key = schedule.getDate().toEpochDay();
+            List<Schedule> bucket = dayIndex.get(key);
+            if (bucket == null || !bucket.remove(schedule)) return;
+            if (bucket.isEmpty()) dayIndex.remove(key);
+            tally(schedule, -1, schedule.completed() ? -1 : 0);
+            schedule.setCompletionListener(null);
+            Set<Schedule> siblings = childrenByRepeatId.get(schedule.getFromRepeatId());
+            if (siblings != null) {
+                siblings.remove(schedule);
+                if (siblings.isEmpty()) childrenByRepeatId.remove(schedule.getFromRepeatId());
+            }
+        } else if (s instanceof RepeatSchedule) {
+            repeatIndex.remove((RepeatSchedule) s);
+            ((RepeatSchedule) s).setOverrideListener(null);
+        } else {
+            undatedSchedules.remove(s);
+        }
+    }
+
+    /**
+     * 반복 패턴에서 파생된 구체적 일정 목록
+     */
+    public List<Schedule> getChildrenOf(String repeatId) {
+        ensureRepeatLoaded(repeatId);
+        Set<Schedule> children = childrenByRepeatId.get(repeatId);
+        List<Schedule> result = children == null ? List.of() : new ArrayList<>(children);
+        evictColdPartitions();
+        return result;
+    }
+
+    /**
+     * 반복 패턴에서 파생된 구체적 일정 개수
+     */
+    public int countChildren(String repeatId) {
+        ensureRepeatLoaded(repeatId);
+        Set<Schedule> children = childrenByRepeatId.get(repeatId);
+        int count = children == null ? 0 : children.size();
+        evictColdPartitions();
+        return count;
+    }
+
+    /**
+     * 여러 반복 패턴을 날짜 범위에 한 번에 배치 ('이 달에 배치')
+     * 이미 배치된 (패턴ID, 날짜)와 건너뛴 발생은 제외하므로 여러 번 호출해도 중복되지 않음
+     */
+    public MaterializeResult materialize(Collection<RepeatSchedule> patterns, LocalDate start, LocalDate end) {
+        ensureLoaded(YearMonth.from(start), YearMonth.from(end));
+
+        // 패턴별로 이미 배치된 날짜 집합 (자식 인덱스에서 구성)
+        Map<String, Set<Long>> existing = new HashMap<>();
+        for (RepeatSchedule r : patterns) {
+            Set<Long> days = new HashSet<>();
+            for (Schedule child : childrenByRepeatId.getOrDefault(r.getId(), Set.of())) {
+                days.add(child.getDate().toEpochDay());
+            }
+            existing.put(r.getId(), days);
+        }
+
+        List<Schedule> batch = new ArrayList<>();
+        int[] skipped = {0};
+        RepeatSchedule.expandAll(patterns, start, end, (r, day) -> {
+            if (r.isOccurrenceSkipped(day) || !existing.get(r.getId()).add(day)) {
+                skipped[0]++;
+                return;
+            }
+            batch.add(r.toConcrete(LocalDate.ofEpochDay(day)));
+        });
+
+        for (Schedule s : batch) {
+            schedulesById.put(s.getId(), s);
+            index(s);
+            markModified(s);
+            recordAdd(s);
+        }
+        return new MaterializeResult(batch.size(), skipped[0]);
+    }
+
+    /**
+     * 일괄 배치 결과 (추가된 개수, 중복으로 건너뛴 개수)
+     */
+    public static class MaterializeResult {
+        private final int inserted;
+        private final int skipped;
+
+        public MaterializeResult(int inserted, int skipped) {
+            this.inserted = inserted;
+            this.skipped = skipped;
+        }
+
+        public int getInserted() { return inserted; }
+        public int getSkipped() { return skipped; }
+    }
+
+    /**
+     * 날짜별/월별 집계 갱신
+     */
+    private void tally(Schedule s, int totalDelta, int completedDelta) {
+        dayTally.computeIfAbsent(s.getDate().toEpochDay(), k -> new Tally())
+                .add(totalDelta, completedDelta);
+        monthTally.computeIfAbsent(YearMonth.of(s.getYear(), s.getMonth()), k -> new Tally())
+                .add(totalDelta, completedDelta);
+    }
+
+    /**
+     * Schedule.setCompleted() 호출 시 완료 개수만 갱신
+     */
+    private void onCompletionChanged(Schedule s, boolean completed) {
+        tally(s, 0, completed ? 1 : -1);
+        markModified(s);
+        record("C", s.getId(), completed, monthOf(s));
+    }
+
+    /**
+     * 특정 날짜의 달성률 (0 ~ 100), 일정이 없으면 -1
+     */
+    public int getDailyAchievement(LocalDate date) {
+        ensureLoaded(YearMonth.from(date));
+        Tally t = new Tally(dayTally.get(date.toEpochDay()));
+        addVirtualTally(t, date, date);
+        return (t.total == 0) ? -1 : t.rate();
+    }
+
+    /**
+     * 특정 월의 달성률 (0 ~ 100), 일정이 없으면 0
+     * 월별 집계는 파티션 목록에 있으므로 그 달을 로드하지 않음 (지연 전개 모드 제외)
+     */
+    public int getMonthlyAchievement(YearMonth ym) {
+        return getAchievementBetween(ym, ym);
+    }
+
+    /**
+     * 여러 달에 걸친 달성률 (0 ~ 100), 일정이 없으면 0
+     * 지연 전개 모드에서는 배치 여부 확인을 위해 범위의 달을 로드
+     */
+    public int getAchievementBetween(YearMonth from, YearMonth to) {
+        Tally t = new Tally();
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            Tally month = monthTally.get(ym);
+            if (month != null) t.add(month.total, month.completed);
+        }
+        if (lazyRepeatExpansion) {
+            ensureLoaded(from, to);
+            addVirtualTally(t, from.atDay(1), to.atEndOfMonth());
+        }
+        return (t.total == 0) ? 0 : t.rate();
+    }
+
+    /**
+     * 전체/완료 일정 개수 집계 단위
+     */
+    private static class Tally {
+        int total;
+        int completed;
+
+        Tally() {
+        }
+
+        Tally(Tally base) {
+            if (base != null) add(base.total, base.completed);
+        }
+
+        void add(int totalDelta, int completedDelta) {
+            total += totalDelta;
+            completed += completedDelta;
+        }
+
+        int rate() {
+            return (int) Math.round((completed * 100.0) / total);
+        }
+    }
+
+    /**
+     * 전체 스케줄 목록 반환 (읽기 전용, 모든 달을 로드)
      */
     public List<ISchedule> allSchedules() {
-        return new ArrayList<>(scheduleList);
+        ensureAllLoaded();
+        return new ArrayList<>(schedulesById.values());
     }
 
     /**
@@ -59,109 +523,319 @@ public class ScheduleManager {
      * Interface Segregation: getOccurrencesOn() 메서드 활용
      */
     public ArrayList<Schedule> getSchedulesOn(LocalDate date) {
+        return collectSchedulesOn(date);
+    }
+
+    /**
+     * 날짜 범위의 일정들을 날짜별 버킷으로 한 번에 반환 (start, end 포함)
+     * 일정이 없는 날짜는 결과에 포함되지 않음
+     */
+    public Map<LocalDate, List<Schedule>> getSchedulesBetween(LocalDate start, LocalDate end) {
+        ensureLoaded(YearMonth.from(start), YearMonth.from(end));
+        long startDay = start.toEpochDay();
+        int days = (int) (end.toEpochDay() - startDay + 1);
+        List<List<Schedule>> buckets = new ArrayList<>(Collections.nCopies(Math.max(days, 0), null));
+
+        // 1. 구체적 일정 버킷 + 반복 패턴 외의 날짜 미고정 스케줄
+        for (int i = 0; i < days; i++) {
+            List<Schedule> bucket = dayIndex.get(startDay + i);
+            List<Schedule> list = (bucket == null) ? new ArrayList<>() : new ArrayList<>(bucket);
+            for (ISchedule s : undatedSchedules) {
+                list.addAll(s.getOccurrencesOn(LocalDate.ofEpochDay(startDay + i)));
+            }
+            buckets.set(i, list);
+        }
+
+        // 2. 지연 전개: 날짜마다 그 요일에 발생하는 반복 패턴만 전개
+        if (lazyRepeatExpansion) {
+            repeatIndex.forEachOccurrence(start, end, (r, day) -> {
+                if (isMaterialized(r.getId(), day)) return;
+                Schedule occurrence = r.virtualOccurrence(LocalDate.ofEpochDay(day));
+                if (occurrence != null) buckets.get((int) (day - startDay)).add(occurrence);
+            });
+        }
+
+        Map<LocalDate, List<Schedule>> result = new LinkedHashMap<>();
+        for (int i = 0; i < days; i++) {
+            List<Schedule> list = buckets.get(i);
+            if (list.isEmpty()) continue;
+            list.sort(START_TIME_ORDER);
+            result.put(LocalDate.ofEpochDay(startDay + i), list);
+        }
+        return result;
+    }
+
+    /**
+     * 특정 월의 일정들을 날짜별 버킷으로 반환
+     */
+    public Map<LocalDate, List<Schedule>> getSchedulesIn(YearMonth ym) {
+        return getSchedulesBetween(ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    /**
+     * 하루치 일정 수집 (날짜 버킷 + 날짜 미고정 스케줄), 시작 시간순 정렬
+     */
+    private ArrayList<Schedule> collectSchedulesOn(LocalDate date) {
+        ensureLoaded(YearMonth.from(date));
         ArrayList<Schedule> result = new ArrayList<>();
-        for (ISchedule s : scheduleList) {
+        List<Schedule> bucket = dayIndex.get(date.toEpochDay());
+        if (bucket != null) {
+            result.addAll(bucket);
+        }
+        for (ISchedule s : undatedSchedules) {
             result.addAll(s.getOccurrencesOn(date));
         }
-        return result.stream()
-                .sorted(Comparator.comparingInt(x -> x.getStartHour() * 60 + x.getStartMinute()))
-                .collect(Collectors.toCollection(ArrayList::new));
+        // 반복 패턴은 지연 전개 모드에서만, 해당 요일 패턴 중 이미 배치된 날짜는 제외
+        if (lazyRepeatExpansion) {
+            for (RepeatSchedule r : repeatIndex.matchingOn(date)) {
+                if (isMaterialized(r.getId(), date)) continue;
+                result.addAll(r.getOccurrencesOn(date));
+            }
+        }
+        result.sort(START_TIME_ORDER);
+        return result;
     }
 
     /**
-     * 일반 스케줄만 필터링하여 반환
+     * 일반 스케줄만 필터링하여 반환 (모든 달을 로드)
      */
     public List<Schedule> getRegularSchedules() {
-        return scheduleList.stream()
+        ensureAllLoaded();
+        return schedulesById.values().stream()
                 .filter(s -> s.getScheduleType() == ISchedule.ScheduleType.REGULAR)
                 .map(s -> (Schedule) s)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 반복 스케줄 패턴만 필터링하여 반환
+     * 반복 스케줄 패턴 반환 (요일 인덱스에서 요일 순으로, 읽기 전용)
      */
     public List<RepeatSchedule> getRepeatSchedules() {
-        return scheduleList.stream()
-                .filter(s -> s.getScheduleType() == ISchedule.ScheduleType.REPEAT)
-                .map(s -> (RepeatSchedule) s)
-                .collect(Collectors.toList());
+        return repeatIndex.all();
     }
 
     /**
      * 통합 로드: 일반 일정 + 반복 일정 패턴 + 파생 일정 모두 로드
      */
     public void loadSchedulesFromCsv() {
-        scheduleList.clear();
+        loadSchedulesFromCsv(Runnable::run);
+    }
 
-        // 1. 반복 일정 패턴 먼저 로드 (ID 참조를 위해)
-        loadRepeatSchedules();
+    /**
+     * 통합 로드 (CSV 파일 읽기를 executor에서 동시에 수행)
+     * 저장소가 있으면 저장소와 변경 기록만 읽고, CSV 파일은 저장소가 없을 때만 가져옴
+     * (CSV는 내보낼 때만 갱신되므로 수정 시각으로 저장소와 비교하지 않음)
+     * 파일 읽기와 파싱만 병렬로 하고, 인덱스 반영은 호출 스레드에서 패턴 → 일정 → 변경 순으로 수행
+     * @throws IllegalStateException 있는 저장소나 변경 기록을 읽을 수 없는 경우
+     *         (CSV로 대신 읽으면 저장소와 변경 기록을 덮어쓰게 되므로 로드를 중단하고 저장을 막음)
+     */
+    public void loadSchedulesFromCsv(Executor executor) {
+        journal = null; // 로드 중의 add()는 기록하지 않음 (저장하지 않은 변경은 버림)
+        commits.awaitDurable(); // 진행 중인 저장이 끝난 파일을 읽음
+        clearAll();
+        loadFailed = false;
 
-        // 2. 일반 일정 + 반복일정에서 파생된 구체적 일정 로드
-        loadRegularSchedules();
+        MutationJournal loaded = new MutationJournal(JOURNAL_FILE);
+        long storeTime;
+        try {
+            storeTime = repository.lastModified();
+        } catch (IOException e) {
+            throw loadFailure("일정 저장소를 열 수 없습니다: " + e.getMessage(), e);
+        }
+        // 변경 기록은 일정 ID가 있는 저장소에만 적용할 수 있음
+        boolean hasJournal = loaded.exists();
 
-        System.out.println("총 " + scheduleList.size() + "개의 일정을 로드했습니다.");
-        System.out.println("- 일반 일정: " + getRegularSchedules().size() + "개");
-        System.out.println("- 반복 패턴: " + getRepeatSchedules().size() + "개");
+        // 0. 월별 파티션이 있으면 반복 패턴과 달 목록만 읽고 변경 기록을 재생
+        //    (각 달은 처음 조회할 때, 변경 기록이 가리키는 달은 재생하면서 로드)
+        if (storeTime != 0) {
+            openPartitions();
+            replayJournal(loaded);
+            journal = loaded;
+            printLoadSummary();
+            return;
+        }
+
+        // 이전 형식의 단일 바이너리 스냅샷 (일정 ID 유지) → 월별 파티션으로 옮김
+        // (그때는 저장할 때마다 CSV도 썼으므로 CSV가 더 새로우면 CSV를 읽음)
+        File snapshot = new File(SNAPSHOT_FILE);
+        if (snapshot.isFile() && (hasJournal || !isCsvNewerThan(snapshot.lastModified()))) {
+            loadSnapshot();
+            replayJournal(loaded);
+            journal = loaded;
+            migrateToPartitions();
+            printLoadSummary();
+            return;
+        }
+
+        // CSV에는 일반 일정 ID가 없으므로 남은 변경 기록을 적용할 수 없음 (지우지 않고 중단)
+        if (hasJournal) {
+            throw loadFailure("변경 기록(" + JOURNAL_FILE + ")을 적용할 일정 저장소가 없습니다. "
+                    + "저장소를 복구하거나 변경 기록을 옮긴 뒤 다시 시작하세요.", null);
+        }
+
+        CompletableFuture<List<RepeatSchedule>> patterns =
+                CompletableFuture.supplyAsync(this::readRepeatSchedules, executor);
+        CompletableFuture<List<Schedule>> schedules =
+                CompletableFuture.supplyAsync(this::readRegularSchedules, executor);
+        CompletableFuture<List<OverrideLine>> overrides =
+                CompletableFuture.supplyAsync(this::readOccurrenceOverrides, executor);
+
+        // 1. 반복 일정 패턴 먼저 반영 (ID 참조를 위해)
+        patterns.join().forEach(this::add);
+
+        // 2. 일반 일정 + 반복일정에서 파생된 구체적 일정 반영
+        schedules.join().forEach(this::add);
+
+        // 3. 반복 일정 발생 건별 변경 사항 반영
+        applyOccurrenceOverrides(overrides.join());
+
+        // CSV에는 일반 일정 ID가 없음 → 파티션을 새로 만들어 이후 기록의 기준(ID)을 고정
+        journal = loaded;
+        migrateToPartitions();
+
+        printLoadSummary();
+    }
+
+    private void replayJournal(MutationJournal loaded) {
+        int replayed;
+        try {
+            replayed = loaded.replay(this::applyJournalRecord);
+        } catch (IOException e) {
+            throw loadFailure("일정 변경 기록(" + JOURNAL_FILE + ")을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        if (replayed > 0) System.out.println("일정 변경 기록 " + replayed + "건 재생 완료");
+    }
+
+    private void clearAll() {
+        schedulesById.clear();
+        dayIndex.clear();
+        undatedSchedules.clear();
+        repeatIndex.clear();
+        dayTally.clear();
+        monthTally.clear();
+        childrenByRepeatId.clear();
+        storedMonths.clear();
+        loadedMonths.clear();
+        modifiedMonths.clear();
+        modifiedPatterns.clear();
+    }
+
+    private void printLoadSummary() {
+        int patternCount = getRepeatSchedules().size();
+        System.out.println("총 " + schedulesById.size() + "개의 일정을 로드했습니다.");
+        System.out.println("- 일반 일정: " + (schedulesById.size() - patternCount) + "개");
+        System.out.println("- 반복 패턴: " + patternCount + "개");
+        System.out.println("- 로드한 달: " + loadedMonths.size() + "개 (저장된 달 " + storedMonths.size() + "개)");
     }
 
     /**
-     * 일반 일정 + 반복일정 파생 일정 로드
-     * 형식: year,month,day,startHour,startMinute,endHour,endMinute,todo,completed,fromRepeatId
+     * CSV 파일 중 하나라도 주어진 시각보다 나중에 수정되었는지 확인 (CSV를 직접 고친 경우)
      */
-    private void loadRegularSchedules() {
-        try (BufferedReader br = new BufferedReader(new FileReader(SCHEDULE_FILE))) {
-            String line;
-            int count = 0;
+    private static boolean isCsvNewerThan(long time) {
+        for (String csv : new String[]{SCHEDULE_FILE, REPEAT_FILE, OVERRIDE_FILE}) {
+            File f = new File(csv);
+            if (f.exists() && f.lastModified() > time) return true;
+        }
+        return false;
+    }
 
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty() || line.startsWith("#")) continue;
+    /**
+     * 로드 실패 처리: 비우고 저장을 막은 뒤 던질 예외 반환
+     */
+    private IllegalStateException loadFailure(String message, Exception cause) {
+        System.err.println(message);
+        clearAll();
+        loadFailed = true;
+        return new IllegalStateException(message, cause);
+    }
 
-                String[] parts = line.split(",", -1);
-                if (parts.length < 9) {
-                    System.err.println("잘못된 일정 형식: " + line);
-                    continue;
-                }
+    /**
+     * 파티션 목록(달별 집계)과 반복 패턴만 로드
+     * @throws IllegalStateException 읽을 수 없는 경우 (CSV로 대신 읽지 않음)
+     */
+    private void openPartitions() {
+        long start = System.nanoTime();
+        try {
+            for (ScheduleRepository.MonthEntry e : repository.readIndex()) {
+                storedMonths.add(e.month);
+                Tally t = new Tally();
+                t.add(e.total, e.completed);
+                monthTally.put(e.month, t);
+            }
+            repository.readPatterns(this::add);
+            System.out.println("일정 월별 파티션 목록 로드 완료: " + storedMonths.size() + "개월" + elapsed(start));
+        } catch (IOException | RuntimeException e) {
+            throw loadFailure("일정 파티션을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
 
-                try {
-                    int year = Integer.parseInt(parts[0].trim());
-                    int month = Integer.parseInt(parts[1].trim());
-                    int day = Integer.parseInt(parts[2].trim());
-                    int startHour = Integer.parseInt(parts[3].trim());
-                    int startMinute = Integer.parseInt(parts[4].trim());
-                    int endHour = Integer.parseInt(parts[5].trim());
-                    int endMinute = Integer.parseInt(parts[6].trim());
-                    String todo = parts[7].trim();
-                    boolean check = Boolean.parseBoolean(parts[8].trim());
-
-                    String fromRepeatId = null;
-                    if (parts.length >= 10 && !parts[9].trim().isEmpty() && !parts[9].trim().equals("null")) {
-                        fromRepeatId = parts[9].trim();
-                    }
-
-                    Schedule s = new Schedule(year, month, day, startHour, startMinute,
-                            endHour, endMinute, todo, fromRepeatId);
-                    s.setCompleted(check);
-                    scheduleList.add(s);
-                    count++;
+    /**
+     * 모든 달이 메모리에 있는 상태(CSV/이전 스냅샷 로드)에서 월별 파티션을 새로 기록
+     * 이전 목록에만 있는 달은 파일을 지우도록 변경된 달로 표시
+     */
+    private void migrateToPartitions() {
+        try {
+            for (ScheduleRepository.MonthEntry e : repository.readIndex()) {
+                loadedMonths.put(e.month, Boolean.TRUE);
+                storedMonths.add(e.month);
+                modifiedMonths.add(e.month);
+            }
+        } catch (IOException e) {
+            System.err.println("이전 일정 파티션 목록을 읽을 수 없습니다: " + e.getMessage());
+        }
+        if (!savePartitions(true).isFailed()) {
+            resetJournal();
+            commits.delete(Path.of(SNAPSHOT_FILE)); // 이전 형식 스냅샷은 더 이상 쓰지 않음
+        }
+    }
 
-                } catch (NumberFormatException e) {
-                    System.err.println("숫자 파싱 오류: " + line);
+    /**
+     * 바이너리 스냅샷 로드
+     * @throws IllegalStateException 읽을 수 없는 경우 (CSV로 대신 읽으면 스냅샷을 지우게 되므로)
+     */
+    private void loadSnapshot() {
+        long start = System.nanoTime();
+        try {
+            ScheduleSnapshot.read(SNAPSHOT_FILE, this::add);
+            System.out.println("일정 스냅샷 로드 완료: " + SNAPSHOT_FILE + elapsed(start));
+        } catch (IOException | RuntimeException e) {
+            throw loadFailure("일정 스냅샷을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 일반 일정 + 반복일정 파생 일정 읽기 (인덱스에는 반영하지 않음)
+     * 형식: year,month,day,startHour,startMinute,endHour,endMinute,todo,completed,fromRepeatId
+     */
+    private List<Schedule> readRegularSchedules() {
+        long start = System.nanoTime();
+        List<Schedule> schedules = new ArrayList<>();
+        try (Reader reader = new FileReader(SCHEDULE_FILE)) {
+            int count = new ScheduleFileParser().parse(reader, schedules::add, (lineNumber, line, problem) -> {
+                if (problem == ScheduleFileParser.Problem.FIELD_COUNT) {
+                    System.err.println("잘못된 일정 형식 (" + lineNumber + "행): " + line);
+                } else if (problem == ScheduleFileParser.Problem.VALUE) {
+                    System.err.println("없는 날짜/시각 (" + lineNumber + "행): " + line);
+                } else {
+                    System.err.println("숫자 파싱 오류 (" + lineNumber + "행): " + line);
                 }
-            }
+            });
 
-            System.out.println("일반 일정 " + count + "개 로드 완료");
+            System.out.println("일반 일정 " + count + "개 로드 완료" + elapsed(start));
 
         } catch (IOException e) {
             System.out.println("일반 일정 파일을 찾을 수 없습니다: " + SCHEDULE_FILE);
         }
+        return schedules;
     }
 
     /**
-     * 반복 일정 패턴 로드
-     * 형식: title|dayOfWeek|startTime|endTime|baseDate
+     * 반복 일정 패턴 읽기 (인덱스에는 반영하지 않음)
+     * 형식: title|dayOfWeek|startTime|endTime|baseDate|id|rule (id, rule은 없을 수 있음)
      */
-    private void loadRepeatSchedules() {
+    private List<RepeatSchedule> readRepeatSchedules() {
+        long start = System.nanoTime();
+        List<RepeatSchedule> patterns = new ArrayList<>();
         try (BufferedReader br = new BufferedReader(new FileReader(REPEAT_FILE))) {
             String line;
             int count = 0;
@@ -181,9 +855,12 @@ public class ScheduleManager {
                     LocalTime startTime = LocalTime.parse(parts[2].trim());
                     LocalTime endTime = LocalTime.parse(parts[3].trim());
                     LocalDate baseDate = LocalDate.parse(parts[4].trim());
+                    String id = (parts.length >= 6) ? parts[5].trim() : null;
+                    RecurrenceRule rule = (parts.length >= 7 && !parts[6].trim().isEmpty())
+                            ? RecurrenceRule.parse(parts[6], baseDate)
+                            : RecurrenceRule.weekly(dayOfWeek, baseDate);
 
-                    RepeatSchedule rs = new RepeatSchedule(title, dayOfWeek, startTime, endTime, baseDate);
-                    scheduleList.add(rs);
+                    patterns.add(new RepeatSchedule(id, title, rule, startTime, endTime));
                     count++;
 
                 } catch (Exception e) {
@@ -191,94 +868,581 @@ public class ScheduleManager {
                 }
             }
 
-            System.out.println("반복 일정 패턴 " + count + "개 로드 완료");
+            System.out.println("반복 일정 패턴 " + count + "개 로드 완료" + elapsed(start));
 
         } catch (IOException e) {
             System.out.println("반복 일정 파일을 찾을 수 없습니다: " + REPEAT_FILE);
         }
+        return patterns;
+    }
+
+    /**
+     * CSV 내보내기: 일반 일정, 반복일정 파생 일정, 반복 패턴을 모두 CSV로 저장하고 저장소도 전체 저장
+     * 사람이 읽는 CSV 파일은 save()로는 갱신되지 않고 이 메서드를 호출할 때만 갱신됨
+     * (모든 달을 로드하고, 끝나면 오래 쓰지 않은 달을 다시 내림)
+     * @return 기록한 양 (실패한 파일이 있으면 실패 내용 포함)
+     */
+    public SaveReport saveSchedulesToCsv() {
+        if (loadFailed) return SaveReport.failed(LOAD_FAILED_MESSAGE);
+        ensureAllLoaded();
+        SaveReport report = saveRegularSchedules()
+                .plus(saveRepeatSchedules())
+                .plus(saveOccurrenceOverrides());
+        SaveReport partitionReport = savePartitions(true);
+        if (!partitionReport.isFailed()) {
+            resetJournal(); // 파티션이 모든 변경을 포함하므로 기록 압축
+        }
+        report = report.plus(partitionReport);
+        evictColdPartitions();
+        System.out.println("일정 전체 저장: " + report);
+        return report;
+    }
+
+    /**
+     * 변경분 저장: 쌓인 변경 기록만 파일 끝에 추가 (CSV 파일은 갱신하지 않음)
+     * 기록이 데이터 크기만큼 쌓이면 변경된 달/반복 패턴의 파티션만 다시 쓰는 압축으로 전환하므로
+     * 저장 비용은 평균적으로 변경 건수에 비례하고, 변경이 없으면 아무것도 쓰지 않음
+     * @return 실제로 기록한 양 (실패하면 실패 내용, 변경 기록은 다음 저장에서 다시 기록)
+     */
+    public SaveReport save() {
+        if (loadFailed) return SaveReport.failed(LOAD_FAILED_MESSAGE);
+        if (journal == null) {
+            return saveSchedulesToCsv();
+        }
+
+        int records = journal.getCommittedCount() + journal.getPendingCount();
+        if (records > COMPACTION_MIN_RECORDS && records > schedulesById.size()) {
+            System.out.println("일정 변경 기록 " + records + "건을 월별 파티션으로 압축합니다.");
+            SaveReport report = savePartitions(false);
+            if (!report.isFailed()) resetJournal(); // 실패하면 변경 기록을 남겨 다음 로드에서 재생
+            return report;
+        }
+
+        int pending = journal.getPendingCount();
+        long bytes;
+        try {
+            bytes = journal.commit();
+        } catch (IOException e) {
+            // 레코드는 대기 상태로 남아 다음 저장에서 다시 기록
+            System.err.println("일정 변경 기록 추가 오류: " + e.getMessage());
+            return SaveReport.failed("일정 변경 기록 추가 오류: " + e.getMessage());
+        }
+        SaveReport report = (pending == 0) ? SaveReport.NONE : new SaveReport(pending, bytes, 1);
+        System.out.println("일정 변경 저장: " + report);
+        return report;
     }
 
     /**
-     * 통합 저장: 일반 일정, 반복일정 파생 일정, 반복 패턴 모두 저장
+     * 종료 전 호출: 진행 중인 저장이 반영될 때까지 기다린 뒤 저장소를 닫음
      */
-    public void saveSchedulesToCsv() {
-        saveRegularSchedules();
-        saveRepeatSchedules();
+    public void close() {
+        commits.awaitDurable();
+        try {
+            repository.close();
+        } catch (IOException e) {
+            System.err.println("일정 저장소 닫기 오류: " + e.getMessage());
+        }
+    }
+
+    private void resetJournal() {
+        if (journal != null) journal.reset();
+    }
+
+    // ===== 월별 파티션 =====
+
+    private static YearMonth monthOf(Schedule s) {
+        return YearMonth.of(s.getYear(), s.getMonth());
+    }
+
+    /**
+     * 파티션 저장 이후 변경된 달/반복 패턴으로 표시 (변경된 달은 저장할 때까지 메모리에서 내리지 않음)
+     */
+    private void markModified(ISchedule s) {
+        if (s instanceof Schedule) {
+            modifiedMonths.add(monthOf((Schedule) s));
+        } else if (s instanceof RepeatSchedule) {
+            modifiedPatterns.add(s.getId());
+        }
+    }
+
+    private void ensureLoaded(YearMonth ym) {
+        ensureLoaded(ym, ym);
+    }
+
+    /**
+     * 범위의 달 중 메모리에 없는 달을 로드한 뒤, 필요하면 범위 밖의 오래 쓰지 않은 달을 내림
+     */
+    private void ensureLoaded(YearMonth from, YearMonth to) {
+        boolean loadedAny = false;
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            if (loadedMonths.get(ym) != null) continue; // 조회만으로 최근 사용 순서 갱신
+            loadPartition(ym);
+            loadedAny = true;
+        }
+        if (loadedAny) evictColdPartitions(from, to);
+    }
+
+    /**
+     * 모든 저장된 달을 로드 (여러 달에 걸친 목록/삭제용)
+     */
+    private void ensureAllLoaded() {
+        for (YearMonth ym : storedMonths) {
+            if (!loadedMonths.containsKey(ym)) loadPartition(ym);
+        }
+    }
+
+    /**
+     * 반복 패턴에서 파생된 일정이 있는 달을 모두 로드
+     * 저장소가 반복 패턴 ID로 달을 찾을 수 있으면 그 달만, 아니면 모든 달을 로드
+     * (저장 이후 옮겨진 일정은 변경된 달로 메모리에 남아 있으므로 저장된 달만 확인하면 됨)
+     * 호출자는 사용을 마친 뒤 evictColdPartitions()로 변경 없는 달을 다시 내림
+     */
+    private void ensureRepeatLoaded(String repeatId) {
+        Set<YearMonth> months;
+        try {
+            months = repository.findMonthsOfRepeat(repeatId);
+        } catch (IOException e) {
+            System.err.println("반복 일정 검색 오류, 모든 달을 로드합니다: " + e.getMessage());
+            months = null;
+        }
+        if (months == null) {
+            ensureAllLoaded();
+            return;
+        }
+        for (YearMonth ym : months) {
+            if (storedMonths.contains(ym) && !loadedMonths.containsKey(ym)) loadPartition(ym);
+        }
+    }
+
+    /**
+     * 한 달의 파티션 로드 (파일이 없는 달은 빈 달로 표시만 함)
+     * 다 읽은 뒤에 인덱스에 반영하므로 읽기에 실패하면 그 달은 로드되지 않은 상태로 남음
+     */
+    private void loadPartition(YearMonth ym) {
+        if (storedMonths.contains(ym)) {
+            long start = System.nanoTime();
+            List<Schedule> schedules = new ArrayList<>();
+            try {
+                repository.readMonth(ym, s -> schedules.add((Schedule) s));
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException("일정 파티션을 읽을 수 없습니다: " + ym + " - " + e.getMessage(), e);
+            }
+
+            monthTally.remove(ym); // 목록의 집계 대신 로드한 일정으로 다시 집계
+            for (Schedule s : schedules) {
+                schedulesById.put(s.getId(), s);
+                index(s);
+            }
+            System.out.println("일정 파티션 " + ym + " 로드: " + schedules.size() + "개" + elapsed(start));
+        }
+        loadedMonths.put(ym, Boolean.TRUE);
+    }
+
+    /**
+     * 조회 범위 없이 오래 쓰지 않은 달을 내림 (반복 패턴의 파생 일정을 찾느라 여러 달을 로드한 뒤)
+     */
+    private void evictColdPartitions() {
+        evictColdPartitions(null, null);
+    }
+
+    /**
+     * 오래 쓰지 않은 달부터 내림 (최대 개수를 넘었거나 메모리가 부족할 때)
+     * 저장하지 않은 변경이 있는 달과 방금 조회한 범위(null이면 없음)는 내리지 않음
+     */
+    private void evictColdPartitions(YearMonth keepFrom, YearMonth keepTo) {
+        Iterator<YearMonth> it = loadedMonths.keySet().iterator();
+        while (it.hasNext()) {
+            int loaded = loadedMonths.size();
+            if (loaded <= MAX_LOADED_MONTHS && (loaded <= MIN_LOADED_MONTHS || !isMemoryLow())) return;
+
+            YearMonth ym = it.next();
+            if (modifiedMonths.contains(ym)
+                    || (keepFrom != null && !ym.isBefore(keepFrom) && !ym.isAfter(keepTo))) continue;
+            it.remove();
+            unloadPartition(ym);
+        }
+    }
+
+    private static boolean isMemoryLow() {
+        Runtime rt = Runtime.getRuntime();
+        long used = rt.totalMemory() - rt.freeMemory();
+        return used > rt.maxMemory() * MEMORY_PRESSURE_RATIO;
+    }
+
+    /**
+     * 한 달의 일정을 메모리에서 내림 (월 집계는 파티션 목록과 같으므로 유지)
+     */
+    private void unloadPartition(YearMonth ym) {
+        for (int day = 1; day <= ym.lengthOfMonth(); day++) {
+            long key = ym.atDay(day).toEpochDay();
+            dayTally.remove(key);
+            List<Schedule> bucket = dayIndex.remove(key);
+            if (bucket == null) continue;
+
+            for (Schedule s : bucket) {
+                schedulesById.remove(s.getId());
+                s.setCompletionListener(null);
+                Set<Schedule> siblings = childrenByRepeatId.get(s.getFromRepeatId());
+                if (siblings != null) {
+                    siblings.remove(s);
+                    if (siblings.isEmpty()) childrenByRepeatId.remove(s.getFromRepeatId());
+                }
+            }
+        }
+    }
+
+    private List<Schedule> schedulesIn(YearMonth ym) {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int day = 1; day <= ym.lengthOfMonth(); day++) {
+            List<Schedule> bucket = dayIndex.get(ym.atDay(day).toEpochDay());
+            if (bucket != null) schedules.addAll(bucket);
+        }
+        return schedules;
+    }
+
+    /**
+     * 변경된 달의 파티션, 변경된 반복 패턴, 파티션 목록만 저장
+     * @param all 변경 여부와 관계없이 반복 패턴과 목록을 기록 (CSV 저장/이전 형식에서 옮길 때)
+     * @return 기록한 양, 실패하면 실패 내용 (변경 표시는 저장소에 반영된 뒤에 지우므로 다음 저장에서 다시 기록)
+     */
+    private SaveReport savePartitions(boolean all) {
+        long start = System.nanoTime();
+        SaveReport report = SaveReport.NONE;
+        try {
+            boolean writePatterns = all || !modifiedPatterns.isEmpty();
+            if (writePatterns) {
+                // 반복 패턴은 저장 순서(삽입 순서)를 그대로 유지
+                List<RepeatSchedule> patterns = new ArrayList<>();
+                for (ISchedule s : schedulesById.values()) {
+                    if (s.getScheduleType() == ISchedule.ScheduleType.REPEAT) patterns.add((RepeatSchedule) s);
+                }
+                report = report.plus(new SaveReport(patterns.size(), repository.writePatterns(patterns), 1));
+            }
+
+            // 저장된 달 목록은 저장소에 반영된 뒤에 바꿈 (실패하면 이전 목록 유지)
+            Set<YearMonth> stored = new HashSet<>(storedMonths);
+            List<YearMonth> writtenMonths = new ArrayList<>(modifiedMonths);
+            for (YearMonth ym : writtenMonths) {
+                List<Schedule> schedules = schedulesIn(ym);
+                long bytes = repository.writeMonth(ym, schedules);
+                if (schedules.isEmpty()) {
+                    stored.remove(ym);
+                } else {
+                    stored.add(ym);
+                    report = report.plus(new SaveReport(schedules.size(), bytes, 1));
+                }
+            }
+
+            List<YearMonth> months = new ArrayList<>(stored);
+            Collections.sort(months);
+            List<ScheduleRepository.MonthEntry> index = new ArrayList<>();
+            for (YearMonth ym : months) {
+                Tally t = new Tally(monthTally.get(ym));
+                index.add(new ScheduleRepository.MonthEntry(ym, t.total, t.completed));
+            }
+            if (all || !writtenMonths.isEmpty()) { // 달별 집계가 바뀌지 않았으면 목록은 그대로
+                report = report.plus(new SaveReport(index.size(), repository.writeIndex(index), 1));
+            }
+            repository.commit();
+
+            storedMonths.clear();
+            storedMonths.addAll(stored);
+            if (writePatterns) modifiedPatterns.clear();
+            writtenMonths.forEach(modifiedMonths::remove);
+            System.out.println("일정 파티션 " + writtenMonths.size() + "개월 저장 (전체 " + months.size() + "개월): "
+                    + report + elapsed(start));
+            return report;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("일정 파티션 저장 오류: " + e.getMessage());
+            repository.rollback();
+            return SaveReport.failed("일정 파티션 저장 오류: " + e.getMessage());
+        }
+    }
+
+    // ===== 변경 기록 =====
+    // S: 일반 일정 추가, R: 반복 패턴 추가, E: 일반 일정 수정, D: 삭제,
+    // C: 완료 상태, O: 반복 일정 발생 건별 변경 (모두 같은 상태를 다시 적용해도 결과가 같음)
+    // E/D/C의 마지막 필드는 일정이 있던 달 (재생할 때 그 달의 파티션을 먼저 로드)
+
+    private void record(String type, Object... fields) {
+        if (journal != null) journal.append(type, fields);
+    }
+
+    private void recordAdd(ISchedule s) {
+        if (journal == null) return;
+        if (s instanceof Schedule) {
+            Schedule x = (Schedule) s;
+            record("S", x.getId(), x.getYear(), x.getMonth(), x.getDay(),
+                    x.getStartHour(), x.getStartMinute(), x.getEndHour(), x.getEndMinute(),
+                    x.getTodo(), x.isChecked(), x.getFromRepeatId());
+        } else if (s instanceof RepeatSchedule) {
+            RepeatSchedule rs = (RepeatSchedule) s;
+            record("R", rs.getId(), rs.getTodo(), rs.getBaseDate(), rs.getRule(),
+                    rs.getStartTime(), rs.getEndTime());
+            for (Map.Entry<Long, RepeatSchedule.OccurrenceOverride> e : rs.getOverrides().entrySet()) {
+                recordOverride(rs, LocalDate.ofEpochDay(e.getKey()), e.getValue());
+            }
+        }
+    }
+
+    private void recordOverride(RepeatSchedule pattern, LocalDate date, RepeatSchedule.OccurrenceOverride o) {
+        markModified(pattern);
+        if (o == null) {
+            record("O", pattern.getId(), date, false, false, null, null);
+        } else {
+            record("O", pattern.getId(), date, o.isCompleted(), o.isSkipped(),
+                    o.getStartTime(), o.getEndTime());
+        }
+    }
+
+    /**
+     * 변경 기록 한 건 재생 (로드 중에만 호출되므로 다시 기록되지 않음)
+     */
+    private void applyJournalRecord(String type, String[] f) {
+        switch (type) {
+            case "S" -> {
+                Schedule s = new Schedule(f[0], Integer.parseInt(f[1]), Integer.parseInt(f[2]),
+                        Integer.parseInt(f[3]), Integer.parseInt(f[4]), Integer.parseInt(f[5]),
+                        Integer.parseInt(f[6]), Integer.parseInt(f[7]), f[8], f[10]);
+                s.setCompleted(Boolean.parseBoolean(f[9]));
+                add(s);
+            }
+            case "R" -> {
+                LocalDate baseDate = LocalDate.parse(f[2]);
+                add(new RepeatSchedule(f[0], f[1], RecurrenceRule.parse(f[3], baseDate),
+                        LocalTime.parse(f[4]), LocalTime.parse(f[5])));
+            }
+            case "E" -> {
+                ensureRecordMonthLoaded(f, 9);
+                update(f[0], Integer.parseInt(f[1]), Integer.parseInt(f[2]),
+                        Integer.parseInt(f[3]), Integer.parseInt(f[4]), Integer.parseInt(f[5]),
+                        Integer.parseInt(f[6]), Integer.parseInt(f[7]), f[8]);
+            }
+            case "D" -> {
+                // 반복 패턴은 항상 메모리에 있고 removeSchedule()이 파생 일정이 있는 달만 로드함
+                ISchedule s = schedulesById.get(f[0]);
+                if (!(s instanceof RepeatSchedule)) {
+                    ensureRecordMonthLoaded(f, 1);
+                    s = schedulesById.get(f[0]);
+                }
+                if (s != null) removeSchedule(s);
+            }
+            case "C" -> {
+                ensureRecordMonthLoaded(f, 2);
+                ISchedule s = schedulesById.get(f[0]);
+                if (s instanceof Schedule) ((Schedule) s).setCompleted(Boolean.parseBoolean(f[1]));
+            }
+            case "O" -> {
+                ISchedule pattern = schedulesById.get(f[0]);
+                if (pattern instanceof RepeatSchedule) {
+                    ((RepeatSchedule) pattern).putOverride(LocalDate.parse(f[1]),
+                            new RepeatSchedule.OccurrenceOverride(
+                                    Boolean.parseBoolean(f[2]), Boolean.parseBoolean(f[3]),
+                                    f[4] == null ? null : LocalTime.parse(f[4]),
+                                    f[5] == null ? null : LocalTime.parse(f[5])));
+                }
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 변경 기록 종류: " + type);
+        }
+    }
+
+    /**
+     * 기록에 일정이 있던 달이 있으면 그 달을, 없으면(이전 형식 기록) 모든 달을 로드
+     */
+    private void ensureRecordMonthLoaded(String[] f, int monthField) {
+        if (f.length > monthField && f[monthField] != null) {
+            ensureLoaded(YearMonth.parse(f[monthField]));
+        } else {
+            ensureAllLoaded();
+        }
     }
 
     /**
      * 일반 일정 + 반복일정에서 파생된 구체적 일정 저장
      */
-    private void saveRegularSchedules() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(SCHEDULE_FILE))) {
+    private SaveReport saveRegularSchedules() {
+        try (ScheduleFileWriter w = fileWriter.open(SCHEDULE_FILE)) {
             int count = 0;
 
-            bw.write("# 일반 일정 데이터 (반복일정 파생 포함)");
-            bw.newLine();
-            bw.write("# 형식: year,month,day,startHour,startMinute,endHour,endMinute,todo,completed,fromRepeatId");
-            bw.newLine();
-            bw.write("# ---------------------------------------------------------------");
-            bw.newLine();
+            w.append("# 일반 일정 데이터 (반복일정 파생 포함)").newLine();
+            w.append("# 형식: year,month,day,startHour,startMinute,endHour,endMinute,todo,completed,fromRepeatId").newLine();
+            w.append("# ---------------------------------------------------------------").newLine();
 
-            for (ISchedule s : scheduleList) {
+            for (ISchedule s : schedulesById.values()) {
                 // 반복 패턴 자체는 제외
                 if (s.getScheduleType() == ISchedule.ScheduleType.REPEAT) continue;
 
                 Schedule schedule = (Schedule) s;
                 String fromRepeatId = (schedule.getFromRepeatId() != null) ? schedule.getFromRepeatId() : "";
 
-                String line = String.format("%d,%d,%d,%d,%d,%d,%d,%s,%b,%s",
-                        schedule.getYear(), schedule.getMonth(), schedule.getDay(),
-                        schedule.getStartHour(), schedule.getStartMinute(),
-                        schedule.getEndHour(), schedule.getEndMinute(),
-                        schedule.getTodo(), schedule.isChecked(), fromRepeatId);
-                bw.write(line);
-                bw.newLine();
+                w.append(schedule.getYear()).append(',')
+                        .append(schedule.getMonth()).append(',')
+                        .append(schedule.getDay()).append(',')
+                        .append(schedule.getStartHour()).append(',')
+                        .append(schedule.getStartMinute()).append(',')
+                        .append(schedule.getEndHour()).append(',')
+                        .append(schedule.getEndMinute()).append(',')
+                        .append(schedule.getTodo()).append(',')
+                        .append(schedule.isChecked()).append(',')
+                        .append(fromRepeatId).newLine();
                 count++;
             }
 
+            long bytes = w.commit();
             System.out.println("일반 일정 " + count + "개 저장 완료");
+            return new SaveReport(count, bytes, 1);
 
         } catch (IOException e) {
             System.err.println("일반 일정 저장 오류: " + e.getMessage());
+            return SaveReport.failed("일반 일정 저장 오류: " + e.getMessage());
         }
     }
 
     /**
      * 반복 일정 패턴 저장
      */
-    private void saveRepeatSchedules() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(REPEAT_FILE))) {
+    private SaveReport saveRepeatSchedules() {
+        try (ScheduleFileWriter w = fileWriter.open(REPEAT_FILE)) {
             int count = 0;
 
-            bw.write("# 반복 일정 패턴 데이터");
-            bw.newLine();
-            bw.write("# 형식: title|dayOfWeek|startTime|endTime|baseDate");
-            bw.newLine();
-            bw.write("# ---------------------------------------------------------------");
-            bw.newLine();
+            w.append("# 반복 일정 패턴 데이터").newLine();
+            w.append("# 형식: title|dayOfWeek|startTime|endTime|baseDate|id|rule").newLine();
+            w.append("# ---------------------------------------------------------------").newLine();
 
-            for (ISchedule s : scheduleList) {
+            for (ISchedule s : schedulesById.values()) {
                 if (s.getScheduleType() != ISchedule.ScheduleType.REPEAT) continue;
 
                 RepeatSchedule rs = (RepeatSchedule) s;
 
-                String line = String.format("%s|%s|%s|%s|%s",
-                        rs.getTodo(),
-                        rs.getDayOfWeek().name(),
-                        rs.getStartTime().toString(),
-                        rs.getEndTime().toString(),
-                        rs.getBaseDate().toString());
-
-                bw.write(line);
-                bw.newLine();
+                w.append(rs.getTodo()).append('|')
+                        .append(rs.getDayOfWeek().name()).append('|')
+                        .append(rs.getStartTime().toString()).append('|')
+                        .append(rs.getEndTime().toString()).append('|')
+                        .append(rs.getBaseDate().toString()).append('|')
+                        .append(rs.getId()).append('|')
+                        .append(rs.getRule().toString()).newLine();
                 count++;
             }
 
+            long bytes = w.commit();
             System.out.println("반복 일정 패턴 " + count + "개 저장 완료");
+            return new SaveReport(count, bytes, 1);
 
         } catch (IOException e) {
             System.err.println("반복 일정 저장 오류: " + e.getMessage());
+            return SaveReport.failed("반복 일정 저장 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 반복 일정 발생 건별 변경 사항 읽기 (패턴이 로드되기 전에도 읽을 수 있도록 ID로 보관)
+     * 형식: repeatId|date|completed|skipped|startTime|endTime (시간은 비어 있을 수 있음)
+     */
+    private List<OverrideLine> readOccurrenceOverrides() {
+        long start = System.nanoTime();
+        List<OverrideLine> overrides = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(OVERRIDE_FILE))) {
+            String line;
+            int count = 0;
+
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) continue;
+
+                String[] parts = line.split("\\|", -1);
+                if (parts.length < 6) {
+                    System.err.println("잘못된 반복 일정 변경 형식: " + line);
+                    continue;
+                }
+
+                try {
+                    LocalDate date = LocalDate.parse(parts[1].trim());
+                    boolean completed = Boolean.parseBoolean(parts[2].trim());
+                    boolean skipped = Boolean.parseBoolean(parts[3].trim());
+                    LocalTime startTime = parts[4].trim().isEmpty() ? null : LocalTime.parse(parts[4].trim());
+                    LocalTime endTime = parts[5].trim().isEmpty() ? null : LocalTime.parse(parts[5].trim());
+
+                    overrides.add(new OverrideLine(parts[0].trim(), date,
+                            new RepeatSchedule.OccurrenceOverride(completed, skipped, startTime, endTime)));
+                    count++;
+
+                } catch (Exception e) {
+                    System.err.println("반복 일정 변경 파싱 오류: " + line + " - " + e.getMessage());
+                }
+            }
+
+            System.out.println("반복 일정 변경 " + count + "개 로드 완료" + elapsed(start));
+
+        } catch (IOException e) {
+            System.out.println("반복 일정 변경 파일을 찾을 수 없습니다: " + OVERRIDE_FILE);
+        }
+        return overrides;
+    }
+
+    /**
+     * 읽어 둔 발생 건별 변경을 패턴에 반영 (없는 패턴의 변경은 무시)
+     */
+    private void applyOccurrenceOverrides(List<OverrideLine> overrides) {
+        for (OverrideLine line : overrides) {
+            ISchedule pattern = schedulesById.get(line.repeatId);
+            if (pattern instanceof RepeatSchedule) {
+                ((RepeatSchedule) pattern).putOverride(line.date, line.override);
+            }
+        }
+    }
+
+    /**
+     * repeat_overrides.txt 한 줄
+     */
+    private static final class OverrideLine {
+        final String repeatId;
+        final LocalDate date;
+        final RepeatSchedule.OccurrenceOverride override;
+
+        OverrideLine(String repeatId, LocalDate date, RepeatSchedule.OccurrenceOverride override) {
+            this.repeatId = repeatId;
+            this.date = date;
+            this.override = override;
+        }
+    }
+
+    /**
+     * 로드 시간 로그용 문자열 (" (12 ms)")
+     */
+    static String elapsed(long startNanos) {
+        return " (" + (System.nanoTime() - startNanos) / 1_000_000 + " ms)";
+    }
+
+    /**
+     * 반복 일정 발생 건별 변경 사항 저장
+     */
+    private SaveReport saveOccurrenceOverrides() {
+        try (ScheduleFileWriter w = fileWriter.open(OVERRIDE_FILE)) {
+            int count = 0;
+
+            w.append("# 반복 일정 발생 건별 변경 데이터 (지연 전개 모드)").newLine();
+            w.append("# 형식: repeatId|date|completed|skipped|startTime|endTime").newLine();
+            w.append("# ---------------------------------------------------------------").newLine();
+
+            for (RepeatSchedule rs : getRepeatSchedules()) {
+                for (Map.Entry<Long, RepeatSchedule.OccurrenceOverride> e : rs.getOverrides().entrySet()) {
+                    RepeatSchedule.OccurrenceOverride o = e.getValue();
+                    w.append(rs.getId()).append('|')
+                            .append(LocalDate.ofEpochDay(e.getKey()).toString()).append('|')
+                            .append(o.isCompleted()).append('|')
+                            .append(o.isSkipped()).append('|')
+                            .append(o.getStartTime() == null ? "" : o.getStartTime().toString()).append('|')
+                            .append(o.getEndTime() == null ? "" : o.getEndTime().toString()).newLine();
+                    count++;
+                }
+            }
+
+            long bytes = w.commit();
+            System.out.println("반복 일정 변경 " + count + "개 저장 완료");
+            return new SaveReport(count, bytes, 1);
+
+        } catch (IOException e) {
+            System.err.println("반복 일정 변경 저장 오류: " + e.getMessage());
+            return SaveReport.failed("반복 일정 변경 저장 오류: " + e.getMessage());
         }
     }
 
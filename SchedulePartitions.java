@@ -0,0 +1,274 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 일정 월별 파티션 저장소 (Single Responsibility Principle, ScheduleRepository 기본 구현)
+ *
+ * 구체적 일정을 달마다 별도 파일로 나누어 저장하고, 목록 파일에 저장된 달과
+ * 달별 일정 수/완료 수를 기록한다. 화면에 필요한 달만 읽을 수 있고,
+ * 여러 달에 걸친 달성률은 목록 파일만으로 계산할 수 있다.
+ *
+ * 폴더 구성:
+ *   index.txt     : 한 줄에 한 달, "yyyy-MM|일정 수|완료 수|반복 패턴 ID,..."
+ *                   (마지막 필드는 그 달에 파생 일정이 있는 반복 패턴, 이전 형식 목록에는 없음)
+ *   patterns.snap : 반복 패턴 + 발생 건별 변경 (ScheduleSnapshot 형식)
+ *   yyyy-MM.snap  : 그 달의 구체적 일정 (ScheduleSnapshot 형식, ID 포함)
+ *
+ * 모든 파일은 GroupCommit으로 교체된다. 파일 여러 개를 한 번에 바꿀 수는 없으므로
+ * commit()은 다음 순서로 목록 파일이 항상 실제로 있는 달 파일만 가리키게 한다.
+ *   1. 달/반복 패턴 파일 교체가 모두 반영될 때까지 대기 (하나라도 실패하면 목록은 그대로)
+ *   2. 목록 파일 교체
+ *   3. 일정이 없어진 달 파일 삭제 (목록에서 빠진 뒤에 지움)
+ * 중간에 실패하면 IOException을 던지며, 일부 달만 새 내용으로 바뀌어 있을 수 있다.
+ * 이 경우 호출자는 변경 기록을 지우지 않으므로 다음 로드에서 기록을 다시 적용해 맞춘다.
+ */
+public final class SchedulePartitions implements ScheduleRepository {
+
+    public static final String DEFAULT_DIRECTORY = "schedule_partitions";
+
+    private static final String INDEX_FILE = "index.txt";
+    private static final String PATTERN_FILE = "patterns.snap";
+    private static final String MONTH_SUFFIX = ".snap";
+
+    private final Path directory;
+    private final GroupCommit commits;
+
+    // commit()에서 반영할 쓰기
+    private final List<CompletableFuture<Void>> requests = new ArrayList<>(); // 달/반복 패턴 파일 교체
+    private final List<Path> pendingDeletes = new ArrayList<>();              // 목록 교체 후 삭제할 달 파일
+    private Path pendingIndex;                                                // 다 쓴 목록 임시 파일
+
+    // 달마다 파생 일정이 있는 반복 패턴 ID (목록 파일과 같은 내용, 값이 null이면 이전 형식이라 알 수 없음)
+    private final Map<YearMonth, Set<String>> repeatIdsByMonth = new HashMap<>();
+    private final Map<YearMonth, Set<String>> pendingRepeatIds = new HashMap<>(); // 이번 저장에서 쓴 달
+
+    public SchedulePartitions(String directory, GroupCommit commits) {
+        this.directory = Path.of(directory);
+        this.commits = commits;
+    }
+
+    /**
+     * 목록 파일의 마지막 수정 시각 (없으면 0)
+     */
+    @Override
+    public long lastModified() {
+        return directory.resolve(INDEX_FILE).toFile().lastModified();
+    }
+
+    // ===== 읽기 =====
+
+    /**
+     * 저장된 달 목록 읽기 (목록 파일이 없으면 빈 목록)
+     * 달별 반복 패턴 ID도 함께 읽어 findMonthsOfRepeat()에 사용
+     * 형식이 맞지 않으면 IOException
+     */
+    @Override
+    public List<MonthEntry> readIndex() throws IOException {
+        List<MonthEntry> entries = new ArrayList<>();
+        repeatIdsByMonth.clear();
+        try (BufferedReader br = Files.newBufferedReader(directory.resolve(INDEX_FILE))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) continue;
+
+                String[] parts = line.split("\\|", -1);
+                try {
+                    MonthEntry entry = new MonthEntry(YearMonth.parse(parts[0].trim()),
+                            Integer.parseInt(parts[1].trim()), Integer.parseInt(parts[2].trim()));
+                    entries.add(entry);
+                    repeatIdsByMonth.put(entry.month, parts.length > 3 ? parseRepeatIds(parts[3]) : null);
+                } catch (ArrayIndexOutOfBoundsException | NumberFormatException | DateTimeParseException e) {
+                    throw new IOException("일정 파티션 목록이 손상되었습니다: " + line);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return entries;
+        }
+        return entries;
+    }
+
+    /**
+     * 반복 패턴 읽기 (발생 건별 변경은 패턴에 바로 복원, 파일이 없으면 아무것도 하지 않음)
+     */
+    @Override
+    public void readPatterns(Consumer<ISchedule> sink) throws IOException {
+        Path file = directory.resolve(PATTERN_FILE);
+        if (Files.exists(file)) ScheduleSnapshot.read(file.toString(), sink);
+    }
+
+    /**
+     * 한 달의 구체적 일정 읽기
+     */
+    @Override
+    public void readMonth(YearMonth month, Consumer<ISchedule> sink) throws IOException {
+        ScheduleSnapshot.read(monthFile(month).toString(), sink);
+    }
+
+    /**
+     * 목록 파일의 달별 반복 패턴 ID로 검색
+     * 이전 형식으로 기록된 달이 남아 있으면 null (그 달을 다시 저장할 때까지 모든 달을 확인)
+     */
+    @Override
+    public Set<YearMonth> findMonthsOfRepeat(String repeatId) {
+        Set<YearMonth> months = new HashSet<>();
+        for (Map.Entry<YearMonth, Set<String>> e : repeatIdsByMonth.entrySet()) {
+            if (e.getValue() == null) return null;
+            if (e.getValue().contains(repeatId)) months.add(e.getKey());
+        }
+        return months;
+    }
+
+    // ===== 쓰기 =====
+
+    // 모든 쓰기 메서드는 기록한 바이트 수를 반환
+
+    @Override
+    public long writePatterns(Collection<RepeatSchedule> patterns) throws IOException {
+        return writeSnapshot(directory.resolve(PATTERN_FILE), patterns, List.of());
+    }
+
+    /**
+     * 한 달의 구체적 일정 저장 (일정이 없으면 commit()에서 목록을 바꾼 뒤 파일 삭제)
+     */
+    @Override
+    public long writeMonth(YearMonth month, Collection<Schedule> schedules) throws IOException {
+        Set<String> repeatIds = new HashSet<>();
+        for (Schedule s : schedules) {
+            if (s.getFromRepeatId() != null) repeatIds.add(s.getFromRepeatId());
+        }
+        pendingRepeatIds.put(month, repeatIds);
+        if (schedules.isEmpty()) {
+            pendingDeletes.add(monthFile(month));
+            return 0;
+        }
+        return writeSnapshot(monthFile(month), List.of(), schedules);
+    }
+
+    /**
+     * 목록 파일을 임시 파일에 기록 (교체는 달 파일이 모두 반영된 뒤 commit()에서 수행)
+     */
+    @Override
+    public long writeIndex(Collection<MonthEntry> entries) throws IOException {
+        Files.createDirectories(directory);
+        discardIndex();
+        Path temp = commits.createTemp(directory.resolve(INDEX_FILE));
+        try (BufferedWriter bw = Files.newBufferedWriter(temp)) { // readIndex()와 같은 UTF-8
+            bw.write("# 일정 월별 파티션 목록");
+            bw.newLine();
+            bw.write("# 형식: yyyy-MM|일정 수|완료 수|반복 패턴 ID,...");
+            bw.newLine();
+            bw.write("# ---------------------------------------------------------------");
+            bw.newLine();
+
+            for (MonthEntry e : entries) {
+                bw.write(e.month + "|" + e.total + "|" + e.completed);
+                Set<String> repeatIds = pendingRepeatIds.containsKey(e.month)
+                        ? pendingRepeatIds.get(e.month) : repeatIdsByMonth.get(e.month);
+                if (repeatIds != null) bw.write("|" + String.join(",", repeatIds)); // 모르면 이전 형식 그대로
+                bw.newLine();
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        pendingIndex = temp;
+        return Files.size(temp);
+    }
+
+    /**
+     * 달/반복 패턴 파일 → 목록 파일 → 달 파일 삭제 순으로 반영하고 각 단계가 끝날 때까지 대기
+     * @throws IOException 하나라도 실패한 경우 (호출자는 변경 기록을 지우면 안 됨)
+     */
+    @Override
+    public void commit() throws IOException {
+        try {
+            for (CompletableFuture<Void> request : requests) GroupCommit.await(request);
+            if (pendingIndex != null) {
+                Path index = pendingIndex;
+                pendingIndex = null;
+                GroupCommit.await(commits.replace(index, directory.resolve(INDEX_FILE)));
+            }
+            repeatIdsByMonth.putAll(pendingRepeatIds); // 삭제된 달은 빈 집합으로 남음
+            List<CompletableFuture<Void>> deletes = new ArrayList<>();
+            for (Path file : pendingDeletes) deletes.add(commits.delete(file));
+            for (CompletableFuture<Void> request : deletes) GroupCommit.await(request);
+        } finally {
+            rollback();
+        }
+    }
+
+    /**
+     * 반영하지 않은 목록과 삭제를 버림
+     * 이미 요청한 달 파일 교체는 취소할 수 없지만, 목록은 바뀌지 않으므로 변경 기록으로 맞춰짐
+     */
+    @Override
+    public void rollback() {
+        requests.clear();
+        pendingDeletes.clear();
+        pendingRepeatIds.clear();
+        try {
+            discardIndex();
+        } catch (IOException e) {
+            System.err.println("일정 파티션 목록 임시 파일 삭제 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 열어 둔 자원이 없으므로 반영하지 않은 목록 임시 파일만 정리
+     */
+    @Override
+    public void close() {
+        rollback();
+    }
+
+    private void discardIndex() throws IOException {
+        if (pendingIndex != null) {
+            Path temp = pendingIndex;
+            pendingIndex = null;
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private long writeSnapshot(Path target, Collection<RepeatSchedule> patterns,
+                               Collection<Schedule> schedules) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = commits.createTemp(target);
+        long size;
+        try {
+            ScheduleSnapshot.write(temp.toString(), patterns, schedules);
+            size = Files.size(temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        requests.add(commits.replace(temp, target));
+        return size;
+    }
+
+    private static Set<String> parseRepeatIds(String field) {
+        Set<String> ids = new HashSet<>();
+        for (String id : field.split(",")) {
+            if (!id.trim().isEmpty()) ids.add(id.trim());
+        }
+        return ids;
+    }
+
+    private Path monthFile(YearMonth month) {
+        return directory.resolve(month + MONTH_SUFFIX);
+    }
+}
\ No newline at end of file
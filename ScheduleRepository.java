@@ -0,0 +1,115 @@
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 일정 저장소 인터페이스 (Dependency Inversion Principle)
+ * ScheduleManager는 이 인터페이스를 통해서만 일정을 읽고 쓰며, 저장 방식은 구현 클래스가 결정한다.
+ *
+ * 구현:
+ *   SchedulePartitions       : 기본값, 달마다 파일 하나 (schedule_partitions 폴더)
+ *   JdbcScheduleRepository   : 내장 DB 파일 하나 (날짜/반복 패턴 ID 인덱스)
+ *
+ * 저장소는 달 단위로 일정을 읽고 쓰며, 달별 집계 목록을 따로 보관해
+ * 모든 일정을 메모리에 올리지 않고도 여러 달의 달성률을 계산할 수 있게 한다.
+ * 한 번의 저장은 write* 호출 뒤 commit()으로 끝난다.
+ * commit()이 실패해도 달 목록은 실제로 있는 달 일정만 가리켜야 하며,
+ * 일부 달만 반영된 상태는 ScheduleManager가 변경 기록을 다시 적용해 맞춘다.
+ * 종료할 때는 close()로 연결이나 파일 잠금을 정리한다.
+ */
+public interface ScheduleRepository extends AutoCloseable {
+
+    /**
+     * 저장소를 선택하는 시스템 속성 (예: -Dteamplanner.store=jdbc:h2:./teamplanner)
+     */
+    String STORE_PROPERTY = "teamplanner.store";
+
+    /**
+     * 위치에 맞는 저장소 생성
+     * @param location "jdbc:"로 시작하면 내장 DB, 비어 있으면 기본 파일 저장소
+     */
+    static ScheduleRepository open(String location, GroupCommit commits) {
+        if (location != null && location.startsWith("jdbc:")) {
+            return new JdbcScheduleRepository(location);
+        }
+        return new SchedulePartitions(SchedulePartitions.DEFAULT_DIRECTORY, commits);
+    }
+
+    /**
+     * 달별 집계 한 줄
+     */
+    final class MonthEntry {
+        public final YearMonth month;
+        public final int total;
+        public final int completed;
+
+        public MonthEntry(YearMonth month, int total, int completed) {
+            this.month = month;
+            this.total = total;
+            this.completed = completed;
+        }
+    }
+
+    /**
+     * 마지막으로 달 목록을 저장한 시각 (저장된 적 없으면 0, CSV가 더 새로운지 비교용)
+     * @throws IOException 저장소를 열 수 없는 경우 (저장된 적 없는 것과 구별)
+     */
+    long lastModified() throws IOException;
+
+    // ===== 읽기 =====
+
+    /**
+     * 저장된 달 목록과 달별 집계 (없으면 빈 목록, 손상되었으면 IOException)
+     */
+    List<MonthEntry> readIndex() throws IOException;
+
+    /**
+     * 반복 패턴 읽기 (발생 건별 변경은 패턴에 바로 복원)
+     */
+    void readPatterns(Consumer<ISchedule> sink) throws IOException;
+
+    /**
+     * 한 달의 구체적 일정 읽기
+     */
+    void readMonth(YearMonth month, Consumer<ISchedule> sink) throws IOException;
+
+    /**
+     * 반복 패턴에서 파생된 일정이 저장된 달
+     * @return 찾을 수 없는 저장소면 null (모든 달을 확인해야 함)
+     */
+    Set<YearMonth> findMonthsOfRepeat(String repeatId) throws IOException;
+
+    // ===== 쓰기 (모두 기록한 바이트 수를 반환) =====
+
+    long writePatterns(Collection<RepeatSchedule> patterns) throws IOException;
+
+    /**
+     * 한 달의 구체적 일정 저장 (일정이 없으면 그 달을 삭제)
+     */
+    long writeMonth(YearMonth month, Collection<Schedule> schedules) throws IOException;
+
+    /**
+     * 달 목록 저장 (달 일정보다 나중에 호출)
+     */
+    long writeIndex(Collection<MonthEntry> entries) throws IOException;
+
+    /**
+     * 지금까지의 쓰기를 반영 (달 목록은 달 일정이 모두 반영된 뒤에 바뀜)
+     * @throws IOException 하나라도 반영하지 못한 경우
+     */
+    void commit() throws IOException;
+
+    /**
+     * 반영하지 않은 쓰기를 취소 (저장 중 오류가 난 경우)
+     */
+    void rollback();
+
+    /**
+     * 저장소 닫기 (반영하지 않은 쓰기는 취소, 종료 전 저장이 모두 반영된 뒤 호출)
+     */
+    @Override
+    void close() throws IOException;
+}
\ No newline at end of file
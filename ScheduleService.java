@@ -22,6 +22,17 @@ public class ScheduleService {
         return true;
     }
 
+    /**
+     * 기존 일반 일정을 수정 (유효성 검증 포함, ID 유지)
+     * @param values 수정할 값을 담은 일정 (검증용, 관리자에 추가되지 않음)
+     */
+    public boolean updateSchedule(String id, Schedule values) {
+        if (!isValid(values)) return false;
+        return manager.update(id, values.getYear(), values.getMonth(), values.getDay(),
+                values.getStartHour(), values.getStartMinute(),
+                values.getEndHour(), values.getEndMinute(), values.getTodo());
+    }
+
     /**
      * 스케줄 유효성 검증
      * Open-Closed: 스케줄 타입별 검증 로직 확장 가능
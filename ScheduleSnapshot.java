@@ -0,0 +1,279 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 일정 바이너리 스냅샷 (Single Responsibility Principle)
+ * 사람이 읽는 CSV와 별도로, 파일 전체를 한 번에 버퍼로 읽어 들이는 고정 폭 형식
+ * (메모리 매핑은 쓰지 않음: 매핑이 남아 있는 파일은 Windows에서 교체/삭제할 수 없음)
+ *
+ * 구성 (리틀 엔디언):
+ *   헤더 32바이트: magic, version, 문자열 수, 반복 패턴 수, 일정 수, override 수, 문자열 블롭 길이(long)
+ *   문자열 테이블: int 오프셋[문자열 수 + 1] + UTF-8 블롭 (8바이트 정렬)
+ *   반복 패턴 레코드 32바이트: id, title, rule(문자열 번호), baseDate(epochDay), 시작/종료 시각(nanoOfDay)
+ *   일정 레코드 24바이트: id, todo, fromRepeatId(문자열 번호, 없으면 -1), year, month, day,
+ *                        startHour, startMinute, endHour, endMinute, flags
+ *   override 레코드 32바이트: 패턴 번호, epochDay, flags, 예약, 시작/종료 시각(nanoOfDay, 없으면 -1)
+ *
+ * 일정 ID도 함께 저장되므로 스냅샷에서 읽은 일정은 저장 전과 같은 ID를 가진다.
+ */
+public final class ScheduleSnapshot {
+
+    private static final int MAGIC = 0x31535054; // "TPS1"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int REPEAT_RECORD_SIZE = 32;
+    private static final int SCHEDULE_RECORD_SIZE = 24;
+    private static final int OVERRIDE_RECORD_SIZE = 32;
+
+    private static final int FLAG_COMPLETED = 1;
+    private static final int FLAG_SKIPPED = 2;
+
+    private ScheduleSnapshot() {
+    }
+
+    /**
+     * 스냅샷 기록 (기존 파일은 덮어씀, fsync는 파일을 교체하는 GroupCommit이 수행)
+     * 바이트 필드에 담을 수 없는 값이 있으면 IllegalArgumentException
+     */
+    public static void write(String file, Collection<RepeatSchedule> patterns,
+                             Collection<Schedule> schedules) throws IOException {
+        StringTable strings = new StringTable();
+        int overrideCount = 0;
+        for (RepeatSchedule rs : patterns) {
+            strings.indexOf(rs.getId());
+            strings.indexOf(rs.getTodo());
+            strings.indexOf(rs.getRule().toString());
+            overrideCount += rs.getOverrides().size();
+        }
+        for (Schedule s : schedules) {
+            strings.indexOf(s.getId());
+            strings.indexOf(s.getTodo());
+            strings.indexOf(s.getFromRepeatId());
+        }
+
+        long stringTableSize = align8(4L * (strings.size() + 1) + strings.blobLength);
+        long size = HEADER_SIZE + stringTableSize
+                + (long) REPEAT_RECORD_SIZE * patterns.size()
+                + (long) SCHEDULE_RECORD_SIZE * schedules.size()
+                + (long) OVERRIDE_RECORD_SIZE * overrideCount;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("스냅샷 크기가 너무 큽니다: " + size);
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+
+        // 헤더
+        buf.putInt(MAGIC).putInt(VERSION).putInt(strings.size())
+                .putInt(patterns.size()).putInt(schedules.size()).putInt(overrideCount)
+                .putLong(strings.blobLength);
+
+        // 문자열 테이블
+        int offset = 0;
+        for (byte[] b : strings.bytes) {
+            buf.putInt(offset);
+            offset += b.length;
+        }
+        buf.putInt(offset);
+        for (byte[] b : strings.bytes) buf.put(b);
+        buf.position((int) (HEADER_SIZE + stringTableSize));
+
+        // 반복 패턴
+        for (RepeatSchedule rs : patterns) {
+            buf.putInt(strings.indexOf(rs.getId()))
+                    .putInt(strings.indexOf(rs.getTodo()))
+                    .putInt(strings.indexOf(rs.getRule().toString()))
+                    .putInt(Math.toIntExact(rs.getBaseDate().toEpochDay()))
+                    .putLong(rs.getStartTime().toNanoOfDay())
+                    .putLong(rs.getEndTime().toNanoOfDay());
+        }
+
+        // 일정
+        for (Schedule s : schedules) {
+            buf.putInt(strings.indexOf(s.getId()))
+                    .putInt(strings.indexOf(s.getTodo()))
+                    .putInt(strings.indexOf(s.getFromRepeatId()))
+                    .putInt(s.getYear())
+                    .put(toByte(s.getMonth())).put(toByte(s.getDay()))
+                    .put(toByte(s.getStartHour())).put(toByte(s.getStartMinute()))
+                    .put(toByte(s.getEndHour())).put(toByte(s.getEndMinute()))
+                    .put((byte) (s.isChecked() ? FLAG_COMPLETED : 0))
+                    .put((byte) 0);
+        }
+
+        // override
+        int index = 0;
+        for (RepeatSchedule rs : patterns) {
+            for (Map.Entry<Long, RepeatSchedule.OccurrenceOverride> e : rs.getOverrides().entrySet()) {
+                RepeatSchedule.OccurrenceOverride o = e.getValue();
+                int flags = (o.isCompleted() ? FLAG_COMPLETED : 0) | (o.isSkipped() ? FLAG_SKIPPED : 0);
+                buf.putInt(index)
+                        .putInt(Math.toIntExact(e.getKey()))
+                        .putInt(flags)
+                        .putInt(0)
+                        .putLong(o.getStartTime() == null ? -1 : o.getStartTime().toNanoOfDay())
+                        .putLong(o.getEndTime() == null ? -1 : o.getEndTime().toNanoOfDay());
+            }
+            index++;
+        }
+
+        buf.flip();
+        try (FileChannel channel = FileChannel.open(Path.of(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) channel.write(buf);
+        }
+    }
+
+    /**
+     * 스냅샷 읽기: 반복 패턴 → 일정 순으로 sink에 전달하고, override는 패턴에 바로 복원
+     * 형식이 맞지 않으면 IOException
+     */
+    public static void read(String file, Consumer<ISchedule> sink) throws IOException {
+        ByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(Path.of(file), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("일정 스냅샷이 너무 큽니다: " + file);
+            }
+            buf = ByteBuffer.allocate((int) size);
+            while (buf.hasRemaining()) {
+                if (channel.read(buf) < 0) throw new IOException("일정 스냅샷을 끝까지 읽지 못했습니다: " + file);
+            }
+        }
+        buf.flip();
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buf.limit() < HEADER_SIZE || buf.getInt(0) != MAGIC) {
+            throw new IOException("일정 스냅샷 형식이 아닙니다: " + file);
+        }
+        if (buf.getInt(4) != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + buf.getInt(4));
+        }
+        int stringCount = buf.getInt(8);
+        int repeatCount = buf.getInt(12);
+        int scheduleCount = buf.getInt(16);
+        int overrideCount = buf.getInt(20);
+        long blobLength = buf.getLong(24);
+
+        long stringTableSize = align8(4L * (stringCount + 1) + blobLength);
+        long expected = HEADER_SIZE + stringTableSize
+                + (long) REPEAT_RECORD_SIZE * repeatCount
+                + (long) SCHEDULE_RECORD_SIZE * scheduleCount
+                + (long) OVERRIDE_RECORD_SIZE * overrideCount;
+        if (stringCount < 0 || blobLength < 0 || repeatCount < 0 || scheduleCount < 0 || overrideCount < 0
+                || expected != buf.limit()) {
+            throw new IOException("일정 스냅샷이 손상되었습니다: " + file);
+        }
+
+        // 문자열 테이블 (블롭을 한 번에 복사한 뒤 디코딩)
+        int blobStart = HEADER_SIZE + 4 * (stringCount + 1);
+        byte[] blob = new byte[(int) blobLength];
+        buf.get(blobStart, blob);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int from = buf.getInt(HEADER_SIZE + 4 * i);
+            int to = buf.getInt(HEADER_SIZE + 4 * (i + 1));
+            strings[i] = new String(blob, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        int pos = (int) (HEADER_SIZE + stringTableSize);
+
+        // 반복 패턴
+        RepeatSchedule[] patterns = new RepeatSchedule[repeatCount];
+        for (int i = 0; i < repeatCount; i++, pos += REPEAT_RECORD_SIZE) {
+            LocalDate baseDate = LocalDate.ofEpochDay(buf.getInt(pos + 12));
+            RecurrenceRule rule = RecurrenceRule.parse(string(strings, buf.getInt(pos + 8)), baseDate);
+            patterns[i] = new RepeatSchedule(string(strings, buf.getInt(pos)),
+                    string(strings, buf.getInt(pos + 4)), rule,
+                    LocalTime.ofNanoOfDay(buf.getLong(pos + 16)),
+                    LocalTime.ofNanoOfDay(buf.getLong(pos + 24)));
+            sink.accept(patterns[i]);
+        }
+
+        // 일정
+        for (int i = 0; i < scheduleCount; i++, pos += SCHEDULE_RECORD_SIZE) {
+            Schedule s = new Schedule(string(strings, buf.getInt(pos)),
+                    buf.getInt(pos + 12),
+                    buf.get(pos + 16), buf.get(pos + 17),
+                    buf.get(pos + 18), buf.get(pos + 19),
+                    buf.get(pos + 20), buf.get(pos + 21),
+                    string(strings, buf.getInt(pos + 4)),
+                    string(strings, buf.getInt(pos + 8)));
+            s.setCompleted((buf.get(pos + 22) & FLAG_COMPLETED) != 0);
+            sink.accept(s);
+        }
+
+        // override
+        for (int i = 0; i < overrideCount; i++, pos += OVERRIDE_RECORD_SIZE) {
+            int flags = buf.getInt(pos + 8);
+            long start = buf.getLong(pos + 16);
+            long end = buf.getLong(pos + 24);
+            patterns[buf.getInt(pos)].putOverride(LocalDate.ofEpochDay(buf.getInt(pos + 4)),
+                    new RepeatSchedule.OccurrenceOverride(
+                            (flags & FLAG_COMPLETED) != 0,
+                            (flags & FLAG_SKIPPED) != 0,
+                            start < 0 ? null : LocalTime.ofNanoOfDay(start),
+                            end < 0 ? null : LocalTime.ofNanoOfDay(end)));
+        }
+    }
+
+    private static String string(String[] strings, int index) throws IOException {
+        if (index == -1) return null;
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("잘못된 문자열 번호: " + index);
+        }
+        return strings[index];
+    }
+
+    private static byte toByte(int value) {
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("스냅샷에 저장할 수 없는 값입니다: " + value);
+        }
+        return (byte) value;
+    }
+
+    private static long align8(long n) {
+        return (n + 7) & ~7L;
+    }
+
+    /**
+     * 기록용 문자열 테이블 (같은 문자열은 한 번만 저장, null은 -1)
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<byte[]> bytes = new ArrayList<>();
+        private long blobLength;
+
+        int indexOf(String s) {
+            if (s == null) return -1;
+            Integer i = index.get(s);
+            if (i != null) return i;
+
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            blobLength += b.length;
+            if (blobLength > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("스냅샷 문자열 테이블이 너무 큽니다");
+            }
+            index.put(s, bytes.size());
+            bytes.add(b);
+            return bytes.size() - 1;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+    }
+}
\ No newline at end of file